@@ -0,0 +1,190 @@
+package com.example.meeting.benchmark;
+
+import com.example.meeting.domain.ImageBlob;
+import com.example.meeting.domain.Meeting;
+import com.example.meeting.domain.Participant;
+import com.example.meeting.domain.Profile;
+import com.example.meeting.repository.MeetingRepository;
+import com.example.meeting.repository.ParticipantRepository;
+import com.example.meeting.repository.ProfileRepository;
+import com.example.meeting.service.ImageBlobService;
+import com.example.meeting.service.ParticipantSearchIndex;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 저장소를 통해 합성 데이터를 적재합니다.
+ * 참여자는 여러 기수에 고르게 나누어지고, 모임마다 참석 밀도만큼의 참여자가 무작위로 참석합니다.
+ * 프로필 이미지는 지정한 크기에 가까운 PNG로 생성되어 이미지 저장소에 저장됩니다.
+ */
+public class DataSeeder {
+
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * 서로 다른 프로필 이미지 수. 같은 이미지는 내용 주소 저장으로 한 번만 저장됩니다.
+     */
+    private static final int DISTINCT_IMAGES = 32;
+
+    private static final String[] POSITIONS = {"회장", "부회장", "총무", "회원", "회원", "회원"};
+    private static final String[] LAST_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final String[] FIRST_NAMES = {"민준", "서연", "도윤", "하은", "시우", "지유", "주원", "서윤", "하준", "지민"};
+
+    private final ParticipantRepository participantRepository;
+    private final ProfileRepository profileRepository;
+    private final MeetingRepository meetingRepository;
+    private final ImageBlobService imageBlobService;
+    private final ParticipantSearchIndex participantSearchIndex;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Random random = new Random(42);
+
+    public DataSeeder(ApplicationContext context) {
+        this.participantRepository = context.getBean(ParticipantRepository.class);
+        this.profileRepository = context.getBean(ProfileRepository.class);
+        this.meetingRepository = context.getBean(MeetingRepository.class);
+        this.imageBlobService = context.getBean(ImageBlobService.class);
+        this.participantSearchIndex = context.getBean(ParticipantSearchIndex.class);
+        this.cacheManager = context.getBean(CacheManager.class);
+        this.transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    /**
+     * 데이터를 적재하고 적재된 ID를 반환합니다.
+     * 적재 후 검색 색인을 다시 구성하고 캐시를 비웁니다.
+     *
+     * @param settings 적재량 설정
+     * @return 적재된 참여자와 모임 ID
+     */
+    public SeedResult seed(LoadHarness.Settings settings) {
+        List<byte[]> images = settings.imageBytes() > 0 ? createImages(settings.imageBytes()) : List.of();
+
+        List<UUID> participantIds = new ArrayList<>(settings.participants());
+        List<String> names = new ArrayList<>(settings.participants());
+        for (int start = 0; start < settings.participants(); start += BATCH_SIZE) {
+            int end = Math.min(settings.participants(), start + BATCH_SIZE);
+            int from = start;
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Participant> participants = new ArrayList<>(end - from);
+                for (int i = from; i < end; i++) {
+                    participants.add(participant(i, settings.seasons()));
+                }
+                participantRepository.saveAll(participants);
+                if (!images.isEmpty()) {
+                    profileRepository.saveAll(participants.stream()
+                            .map(participant -> profile(participant, images.get(random.nextInt(images.size()))))
+                            .toList());
+                }
+                participants.forEach(participant -> {
+                    participantIds.add(participant.getId());
+                    names.add(participant.getName());
+                });
+            });
+        }
+
+        int attendees = (int) Math.round(settings.participants() * settings.density());
+        List<UUID> meetingIds = new ArrayList<>(settings.meetings());
+        for (int start = 0; start < settings.meetings(); start += BATCH_SIZE) {
+            int end = Math.min(settings.meetings(), start + BATCH_SIZE);
+            int from = start;
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Meeting> meetings = new ArrayList<>(end - from);
+                for (int i = from; i < end; i++) {
+                    meetings.add(meeting(i));
+                }
+                meetingRepository.saveAll(meetings);
+                meetingRepository.flush();
+                for (Meeting meeting : meetings) {
+                    meetingRepository.addParticipants(meeting.getId(), sample(participantIds, attendees));
+                    meetingIds.add(meeting.getId());
+                }
+            });
+        }
+
+        participantSearchIndex.rebuild();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        return new SeedResult(participantIds, names, meetingIds);
+    }
+
+    private Participant participant(int index, int seasons) {
+        return Participant.builder()
+                .name(LAST_NAMES[random.nextInt(LAST_NAMES.length)] + FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + index)
+                .position(POSITIONS[random.nextInt(POSITIONS.length)])
+                .season((index % seasons + 1) + "기")
+                .phone(String.format("010-%04d-%04d", index / 10000, index % 10000))
+                .build();
+    }
+
+    private Profile profile(Participant participant, byte[] image) {
+        ImageBlob blob = imageBlobService.acquire(image, "image/png");
+        return Profile.builder()
+                .participant(participant)
+                .imageKey(blob.getId())
+                .imageContentType(blob.getContentType())
+                .imageSize(blob.getSize())
+                .build();
+    }
+
+    private Meeting meeting(int index) {
+        LocalDateTime date = LocalDateTime.of(2026, 1, 1, 19, 0).plusDays(index % 365);
+        return Meeting.builder()
+                .title("정기 모임 " + (index + 1))
+                .desc("합성 데이터로 생성된 모임입니다.")
+                .date(date)
+                .location("서울 " + (index % 25 + 1) + "구")
+                .build();
+    }
+
+    private Set<UUID> sample(List<UUID> ids, int count) {
+        Set<UUID> sample = new LinkedHashSet<>();
+        int target = Math.min(count, ids.size());
+        while (sample.size() < target) {
+            sample.add(ids.get(random.nextInt(ids.size())));
+        }
+        return sample;
+    }
+
+    /**
+     * 무작위 픽셀의 PNG를 만듭니다. 무작위 픽셀은 거의 압축되지 않으므로 한 변을 목표 크기에서 계산합니다.
+     */
+    private List<byte[]> createImages(int targetBytes) {
+        int side = Math.max(1, (int) Math.sqrt(targetBytes / 3.0));
+        List<byte[]> images = new ArrayList<>(DISTINCT_IMAGES);
+        for (int n = 0; n < DISTINCT_IMAGES; n++) {
+            BufferedImage image = new BufferedImage(side, side, BufferedImage.TYPE_INT_RGB);
+            for (int y = 0; y < side; y++) {
+                for (int x = 0; x < side; x++) {
+                    image.setRGB(x, y, random.nextInt(0x1000000));
+                }
+            }
+            try {
+                ByteArrayOutputStream out = new ByteArrayOutputStream(targetBytes);
+                ImageIO.write(image, "png", out);
+                images.add(out.toByteArray());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return images;
+    }
+
+    /**
+     * 적재된 데이터의 ID. 부하를 줄 때 요청 대상을 고르는 데 사용합니다.
+     */
+    public record SeedResult(List<UUID> participantIds, List<String> participantNames, List<UUID> meetingIds) {
+    }
+}
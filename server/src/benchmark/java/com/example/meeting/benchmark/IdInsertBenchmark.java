@@ -0,0 +1,196 @@
+package com.example.meeting.benchmark;
+
+import com.example.meeting.util.UuidUtil;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 식별자 방식에 따른 H2 삽입 처리량과 디스크 사용량을 비교하는 벤치마크.
+ * participants, meetings, meeting_participants와 같은 형태의 테이블을 방식마다 새 데이터베이스 파일에 만들고
+ * 같은 양의 행을 JDBC 배치로 삽입한 뒤 테이블별 디스크 사용량(인덱스 포함)을 출력합니다.
+ *
+ * 실행: ./gradlew idBenchmark -Pparticipants=100000 -Pmeetings=2000 -Pattendees=50
+ */
+public class IdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String[] TABLES = {"PARTICIPANTS", "MEETINGS", "MEETING_PARTICIPANTS"};
+
+    public static void main(String[] args) throws Exception {
+        int participants = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int meetings = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+        int attendees = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+
+        System.out.printf("participants=%d, meetings=%d, attendees per meeting=%d%n%n",
+                participants, meetings, attendees);
+        System.out.printf("%-22s %12s %14s %14s %16s %12s%n",
+                "strategy", "rows/s", "participants", "meetings", "meeting_parts", "file");
+
+        for (Strategy strategy : Strategy.values()) {
+            // 첫 실행의 JIT 준비 비용이 결과에 섞이지 않도록 작은 규모로 한 번 먼저 실행
+            run(strategy, Math.max(1, participants / 10), Math.max(1, meetings / 10), attendees);
+            Result result = run(strategy, participants, meetings, attendees);
+            System.out.printf("%-22s %12.0f %14s %14s %16s %12s%n",
+                    strategy.label, result.rowsPerSecond,
+                    kib(result.sizes[0]), kib(result.sizes[1]), kib(result.sizes[2]), kib(result.fileSize));
+        }
+    }
+
+    private static Result run(Strategy strategy, int participants, int meetings, int attendees)
+            throws SQLException, IOException {
+        Path dir = Files.createTempDirectory("id-benchmark");
+        try {
+            String url = "jdbc:h2:file:" + dir.resolve("db").toAbsolutePath();
+            Random random = new Random(42);
+            long[] sizes = new long[TABLES.length];
+            long elapsed;
+            long rows;
+
+            try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+                connection.setAutoCommit(false);
+                createSchema(connection, strategy.columnType);
+
+                long start = System.nanoTime();
+                List<Object> participantIds = insertIds(connection, "insert into participants (id, name) values (?, ?)",
+                        participants, strategy.generator);
+                List<Object> meetingIds = insertIds(connection, "insert into meetings (id, name) values (?, ?)",
+                        meetings, strategy.generator);
+                rows = participants + meetings
+                        + insertAttendance(connection, meetingIds, participantIds, attendees, random);
+                elapsed = System.nanoTime() - start;
+
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("checkpoint sync");
+                    for (int i = 0; i < TABLES.length; i++) {
+                        try (ResultSet rs = statement.executeQuery("call disk_space_used('" + TABLES[i] + "')")) {
+                            rs.next();
+                            sizes[i] = rs.getLong(1);
+                        }
+                    }
+                    statement.execute("shutdown");
+                }
+            }
+
+            long fileSize = Files.size(dir.resolve("db.mv.db"));
+            return new Result(rows * 1_000_000_000.0 / elapsed, sizes, fileSize);
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    private static void createSchema(Connection connection, String idType) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table participants (id " + idType + " primary key, name varchar(255) not null)");
+            statement.execute("create table meetings (id " + idType + " primary key, name varchar(255) not null)");
+            statement.execute("create table meeting_participants ("
+                    + "meeting_id " + idType + " not null references meetings (id), "
+                    + "participant_id " + idType + " not null references participants (id), "
+                    + "primary key (meeting_id, participant_id))");
+            statement.execute("create index idx_meeting_participants_participant_id "
+                    + "on meeting_participants (participant_id)");
+        }
+        connection.commit();
+    }
+
+    private static List<Object> insertIds(Connection connection, String sql, int count, Supplier<Object> generator)
+            throws SQLException {
+        List<Object> ids = new ArrayList<>(count);
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < count; i++) {
+                Object id = generator.get();
+                ids.add(id);
+                statement.setObject(1, id);
+                statement.setString(2, "name-" + i);
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        }
+        return ids;
+    }
+
+    /**
+     * 모임마다 무작위로 고른 참여자를 추가합니다. 모임은 생성 순서대로 처리됩니다.
+     */
+    private static long insertAttendance(Connection connection, List<Object> meetingIds, List<Object> participantIds,
+                                         int attendees, Random random) throws SQLException {
+        long count = 0;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "insert into meeting_participants (meeting_id, participant_id) values (?, ?)")) {
+            for (Object meetingId : meetingIds) {
+                random.ints(0, participantIds.size())
+                        .distinct()
+                        .limit(Math.min(attendees, participantIds.size()))
+                        .forEach(i -> addBatch(statement, meetingId, participantIds.get(i)));
+                count += Math.min(attendees, participantIds.size());
+                statement.executeBatch();
+                connection.commit();
+            }
+        }
+        return count;
+    }
+
+    private static void addBatch(PreparedStatement statement, Object meetingId, Object participantId) {
+        try {
+            statement.setObject(1, meetingId);
+            statement.setObject(2, participantId);
+            statement.addBatch();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String kib(long bytes) {
+        return (bytes / 1024) + " KiB";
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * 비교할 식별자 방식.
+     */
+    private enum Strategy {
+
+        VARCHAR_RANDOM("varchar v4 (random)", "varchar(255)", () -> UUID.randomUUID().toString()),
+        VARCHAR_TIME_ORDERED("varchar v7", "varchar(255)", () -> UuidUtil.timeOrdered().toString()),
+        UUID_TIME_ORDERED("native uuid v7", "uuid", UuidUtil::timeOrdered);
+
+        private final String label;
+        private final String columnType;
+        private final Supplier<Object> generator;
+
+        Strategy(String label, String columnType, Supplier<Object> generator) {
+            this.label = label;
+            this.columnType = columnType;
+            this.generator = generator;
+        }
+    }
+
+    private record Result(double rowsPerSecond, long[] sizes, long fileSize) {
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.meeting.benchmark;
+
+import com.example.meeting.MeetingApplication;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 합성 데이터로 서버 전체에 부하를 주는 하네스.
+ * 빈 H2 파일 데이터베이스로 애플리케이션을 내장 실행하고, 저장소를 통해 데이터를 적재한 뒤
+ * 여러 클라이언트가 {@link Workload}의 요청 비율대로 REST API를 호출하여 작업별 처리량과 지연 시간 백분위를 출력합니다.
+ * 네트워크 없이 로컬에서만 실행됩니다.
+ *
+ * 실행: ./gradlew loadHarness -Pparticipants=5000 -Pmeetings=500 -Pdensity=0.02 -PimageBytes=32768 -Pclients=200
+ */
+public class LoadHarness {
+
+    private static final long HIGHEST_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.parse(args);
+        System.out.println(settings);
+
+        deleteRecursively(settings.dir());
+        Files.createDirectories(settings.dir());
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(MeetingApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:file:" + settings.dir().resolve("meeting").toAbsolutePath(),
+                        "spring.jpa.show-sql=false",
+                        "spring.h2.console.enabled=false",
+                        "image.storage.path=" + settings.dir().resolve("images").toAbsolutePath(),
+                        "image.migration.enabled=false",
+                        "logging.level.root=WARN");
+        if (settings.profile() != null) {
+            builder.profiles(settings.profile());
+        }
+
+        try (ConfigurableApplicationContext context = builder.run()) {
+            long seedStart = System.nanoTime();
+            DataSeeder.SeedResult seed = new DataSeeder(context).seed(settings);
+            System.out.printf("seeded %d participants, %d meetings in %.1fs%n",
+                    seed.participantIds().size(), seed.meetingIds().size(), (System.nanoTime() - seedStart) / 1e9);
+
+            String port = context.getEnvironment().getProperty("local.server.port");
+            run(settings, new Workload(URI.create("http://localhost:" + port), seed));
+        }
+    }
+
+    private static void run(Settings settings, Workload workload) throws Exception {
+        ExecutorService httpExecutor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(httpExecutor)
+                .build();
+
+        long measureFrom = System.nanoTime() + settings.warmup().toNanos();
+        long deadline = measureFrom + settings.duration().toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(settings.clients());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ClientResult>> futures = new ArrayList<>(settings.clients());
+        for (int i = 0; i < settings.clients(); i++) {
+            long seed = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return runClient(httpClient, workload.newClient(seed), measureFrom, deadline);
+            }));
+        }
+        start.countDown();
+
+        ClientResult total = new ClientResult();
+        for (Future<ClientResult> future : futures) {
+            total.merge(future.get());
+        }
+        executor.shutdown();
+        httpExecutor.shutdown();
+
+        report(total, settings.duration());
+    }
+
+    private static ClientResult runClient(HttpClient httpClient, Workload.Client client, long measureFrom, long deadline) {
+        ClientResult result = new ClientResult();
+        while (true) {
+            long start = System.nanoTime();
+            if (start >= deadline) {
+                return result;
+            }
+            Workload.Request request = client.next();
+            boolean ok;
+            try {
+                HttpResponse<Void> response = httpClient.send(
+                        request.builder().timeout(REQUEST_TIMEOUT).build(), HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() < 400;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return result;
+            } catch (IOException e) {
+                ok = false;
+            }
+            long end = System.nanoTime();
+            if (start >= measureFrom && end <= deadline) {
+                result.record(request.operation(), end - start, ok);
+            }
+        }
+    }
+
+    private static void report(ClientResult result, Duration duration) {
+        double seconds = duration.toNanos() / 1e9;
+        System.out.printf("%n%-22s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        Histogram all = new Histogram(HIGHEST_LATENCY_NANOS, 3);
+        long errors = 0;
+        for (Workload.Operation operation : Workload.Operation.values()) {
+            Histogram histogram = result.histograms.get(operation);
+            long operationErrors = result.errors.getOrDefault(operation, 0L);
+            if (histogram == null) {
+                continue;
+            }
+            all.add(histogram);
+            errors += operationErrors;
+            printRow(operation.name(), histogram, operationErrors, seconds);
+        }
+        printRow("TOTAL", all, errors, seconds);
+    }
+
+    private static void printRow(String name, Histogram histogram, long errors, double seconds) {
+        System.out.printf("%-22s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1e6, histogram.getValueAtPercentile(90) / 1e6,
+                histogram.getValueAtPercentile(99) / 1e6, histogram.getValueAtPercentile(99.9) / 1e6,
+                histogram.getMaxValue() / 1e6);
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * 클라이언트 하나의 작업별 측정 결과. 성공한 요청의 응답 시간(나노초)만 히스토그램에 기록합니다.
+     */
+    private static final class ClientResult {
+
+        private final Map<Workload.Operation, Histogram> histograms = new EnumMap<>(Workload.Operation.class);
+        private final Map<Workload.Operation, Long> errors = new EnumMap<>(Workload.Operation.class);
+
+        private void record(Workload.Operation operation, long latency, boolean ok) {
+            Histogram histogram = histograms.computeIfAbsent(operation, k -> new Histogram(HIGHEST_LATENCY_NANOS, 3));
+            if (ok) {
+                histogram.recordValue(Math.min(latency, HIGHEST_LATENCY_NANOS));
+            } else {
+                errors.merge(operation, 1L, Long::sum);
+            }
+        }
+
+        private void merge(ClientResult other) {
+            other.histograms.forEach((operation, histogram) ->
+                    histograms.computeIfAbsent(operation, k -> new Histogram(HIGHEST_LATENCY_NANOS, 3)).add(histogram));
+            other.errors.forEach((operation, count) -> errors.merge(operation, count, Long::sum));
+        }
+    }
+
+    /**
+     * 적재량과 부하 설정. "이름=값" 형식의 인자로 지정합니다.
+     *
+     * @param dir 데이터베이스와 이미지 저장소 디렉터리 (실행할 때마다 비워짐)
+     * @param participants 참여자 수
+     * @param seasons 참여자가 나누어지는 기수 수
+     * @param meetings 모임 수
+     * @param density 모임마다 참석하는 참여자 비율 (0~1)
+     * @param imageBytes 프로필 이미지 크기 (0이면 프로필 없음)
+     * @param clients 동시 클라이언트 수
+     * @param duration 측정 시간
+     * @param warmup 측정 전 준비 시간
+     * @param profile 활성화할 스프링 프로필 (예: virtual, 선택 사항)
+     */
+    public record Settings(Path dir, int participants, int seasons, int meetings, double density, int imageBytes,
+                           int clients, Duration duration, Duration warmup, String profile) {
+
+        static Settings parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                int separator = arg.indexOf('=');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("Expected name=value but got " + arg);
+                }
+                values.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+            return new Settings(
+                    Path.of(values.getOrDefault("dir", "build/loadtest")),
+                    Integer.parseInt(values.getOrDefault("participants", "5000")),
+                    Integer.parseInt(values.getOrDefault("seasons", "30")),
+                    Integer.parseInt(values.getOrDefault("meetings", "500")),
+                    Double.parseDouble(values.getOrDefault("density", "0.02")),
+                    Integer.parseInt(values.getOrDefault("imageBytes", "16384")),
+                    Integer.parseInt(values.getOrDefault("clients", "100")),
+                    Duration.ofSeconds(Long.parseLong(values.getOrDefault("seconds", "60"))),
+                    Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10"))),
+                    values.get("profile"));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.meeting.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 실행 중인 서버의 GET 엔드포인트에 동시 클라이언트로 요청을 보내 처리량과 지연 시간 백분위를 측정합니다.
+ * 각 클라이언트는 응답을 받으면 바로 다음 요청을 보내며(닫힌 부하), 처음 5초는 준비 구간으로 집계하지 않습니다.
+ * 플랫폼 스레드 모드와 virtual 프로필로 각각 서버를 실행해 결과를 비교합니다.
+ *
+ * 실행: ./gradlew loadTest -Purl=http://localhost:9999/meetings -Pclients=1000 -Pseconds=30
+ */
+public class LoadTest {
+
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(args.length > 0 ? args[0] : "http://localhost:9999/meetings");
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+
+        ExecutorService httpExecutor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(httpExecutor)
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).GET().build();
+
+        long measureFrom = System.nanoTime() + WARMUP.toNanos();
+        long deadline = measureFrom + duration.toNanos();
+
+        System.out.printf("GET %s with %d clients for %ds (+%ds warmup)%n",
+                uri, clients, duration.toSeconds(), WARMUP.toSeconds());
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ClientResult>> futures = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return runClient(httpClient, request, measureFrom, deadline);
+            }));
+        }
+        start.countDown();
+
+        ClientResult total = new ClientResult();
+        for (Future<ClientResult> future : futures) {
+            total.merge(future.get());
+        }
+        executor.shutdown();
+        httpExecutor.shutdown();
+
+        long[] latencies = Arrays.copyOf(total.latencies, total.count);
+        Arrays.sort(latencies);
+        double seconds = duration.toNanos() / 1e9;
+
+        System.out.printf("requests: %d, errors: %d, throughput: %.1f req/s%n",
+                total.count, total.errors, total.count / seconds);
+        System.out.printf("latency ms: p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f max=%.1f%n",
+                percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99),
+                percentile(latencies, 99.9), percentile(latencies, 100));
+    }
+
+    private static ClientResult runClient(HttpClient httpClient, HttpRequest request, long measureFrom, long deadline) {
+        ClientResult result = new ClientResult();
+        while (true) {
+            long start = System.nanoTime();
+            if (start >= deadline) {
+                return result;
+            }
+            boolean ok;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() < 400;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return result;
+            } catch (Exception e) {
+                ok = false;
+            }
+            long end = System.nanoTime();
+            if (start >= measureFrom && end <= deadline) {
+                if (ok) {
+                    result.record(end - start);
+                } else {
+                    result.errors++;
+                }
+            }
+        }
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+    }
+
+    /**
+     * 클라이언트 하나의 측정 결과. 응답 시간(나노초)을 늘어나는 배열에 기록합니다.
+     */
+    private static final class ClientResult {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        private void record(long latency) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+        }
+
+        private void merge(ClientResult other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.meeting.benchmark;
+
+import com.example.meeting.MeetingApplication;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Hibernate 2차 캐시가 프로필을 포함한 모임 목록 조회(GET /meetings?include=profile)의 SQL 수에 주는 효과를 측정하는 벤치마크.
+ * 참석자가 많이 겹치도록 같은 데이터를 적재한 애플리케이션을 2차 캐시를 끈 채로 한 번, 켠 채로 한 번 실행하고
+ * 요청마다 Server-Timing 헤더의 SQL 문 수와 JDBC 시간을 모아 평균을 출력합니다.
+ * 응답 캐시(스프링 캐시)는 요청마다 비우므로 매 요청이 실제로 데이터베이스 조회 경로를 거칩니다.
+ * 2차 캐시를 켠 실행은 요청마다 2차 캐시도 비우는 cold와 캐시가 채워진 뒤의 warm으로 나누어 측정합니다.
+ *
+ * 실행: ./gradlew secondLevelCacheBenchmark -Pparticipants=2000 -Pmeetings=300 -Pdensity=0.2 -Prequests=20
+ */
+public class SecondLevelCacheBenchmark {
+
+    private static final Pattern DB_TIMING = Pattern.compile("db;dur=([0-9.]+);desc=\"(\\d+) statements\"");
+
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(List.of(
+                "dir=build/l2cache", "participants=2000", "meetings=300", "density=0.2", "imageBytes=1024"));
+        int requests = 20;
+        for (String arg : args) {
+            if (arg.startsWith("requests=")) {
+                requests = Integer.parseInt(arg.substring("requests=".length()));
+            } else {
+                arguments.add(arg);
+            }
+        }
+        LoadHarness.Settings settings = LoadHarness.Settings.parse(arguments.toArray(String[]::new));
+        System.out.printf("participants=%d, meetings=%d, density=%.2f, requests=%d%n%n",
+                settings.participants(), settings.meetings(), settings.density(), requests);
+        System.out.printf("%-10s %12s %12s %12s%n", "mode", "statements", "db ms", "latency ms");
+
+        try (ConfigurableApplicationContext context = start(settings, false)) {
+            Client client = new Client(context);
+            client.seed(settings);
+            print("disabled", client.measure(requests, false));
+        }
+        try (ConfigurableApplicationContext context = start(settings, true)) {
+            Client client = new Client(context);
+            client.seed(settings);
+            print("cold", client.measure(requests, true));
+            client.measure(1, false);
+            print("warm", client.measure(requests, false));
+        }
+    }
+
+    private static ConfigurableApplicationContext start(LoadHarness.Settings settings, boolean secondLevelCache)
+            throws IOException {
+        deleteRecursively(settings.dir());
+        Files.createDirectories(settings.dir());
+        return new SpringApplicationBuilder(MeetingApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:file:" + settings.dir().resolve("meeting").toAbsolutePath(),
+                        "spring.h2.console.enabled=false",
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache,
+                        "spring.jpa.properties.hibernate.cache.use_query_cache=" + secondLevelCache,
+                        "image.storage.path=" + settings.dir().resolve("images").toAbsolutePath(),
+                        "image.migration.enabled=false",
+                        "logging.level.root=WARN",
+                        // 캐시 없이 측정할 때는 모든 요청이 SQL 예산을 넘으므로 경고 로그를 끔
+                        "logging.level.com.example.meeting.filter.SqlBudgetFilter=ERROR")
+                .run();
+    }
+
+    private static void print(String mode, Measurement measurement) {
+        System.out.printf("%-10s %12.1f %12.2f %12.2f%n",
+                mode, measurement.statements(), measurement.dbMillis(), measurement.latencyMillis());
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * 실행 중인 애플리케이션에 모임 목록을 요청하는 클라이언트.
+     */
+    private static final class Client {
+
+        private final ConfigurableApplicationContext context;
+        private final CacheManager cacheManager;
+        private final EntityManagerFactory entityManagerFactory;
+        private final HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        private final URI uri;
+
+        private Client(ConfigurableApplicationContext context) {
+            this.context = context;
+            this.cacheManager = context.getBean(CacheManager.class);
+            this.entityManagerFactory = context.getBean(EntityManagerFactory.class);
+            this.uri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/meetings?include=profile");
+        }
+
+        private void seed(LoadHarness.Settings settings) {
+            new DataSeeder(context).seed(settings);
+        }
+
+        /**
+         * 모임 목록을 요청하고 요청당 평균을 반환합니다.
+         *
+         * @param requests 요청 수
+         * @param evictSecondLevelCache 요청마다 2차 캐시를 비울지 여부
+         */
+        private Measurement measure(int requests, boolean evictSecondLevelCache) throws Exception {
+            long statements = 0;
+            double dbMillis = 0;
+            long latencyNanos = 0;
+            for (int i = 0; i < requests; i++) {
+                cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+                if (evictSecondLevelCache) {
+                    entityManagerFactory.getCache().evictAll();
+                }
+
+                long start = System.nanoTime();
+                HttpResponse<Void> response = httpClient.send(
+                        HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding());
+                latencyNanos += System.nanoTime() - start;
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException("GET " + uri + " returned " + response.statusCode());
+                }
+
+                String timing = response.headers().firstValue("Server-Timing")
+                        .orElseThrow(() -> new IllegalStateException("Server-Timing header is missing"));
+                Matcher matcher = DB_TIMING.matcher(timing);
+                if (!matcher.find()) {
+                    throw new IllegalStateException("Unexpected Server-Timing header: " + timing);
+                }
+                dbMillis += Double.parseDouble(matcher.group(1));
+                statements += Long.parseLong(matcher.group(2));
+            }
+            return new Measurement((double) statements / requests, dbMillis / requests,
+                    latencyNanos / 1e6 / requests);
+        }
+    }
+
+    private record Measurement(double statements, double dbMillis, double latencyMillis) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.meeting.benchmark;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 부하 하네스가 보내는 요청의 구성.
+ * 작업마다 가중치가 있으며, 대상 모임과 참여자는 적재된 데이터에서 무작위로 고릅니다.
+ * 목록 화면 위주의 읽기와 약간의 수정이 섞인 실제 사용 패턴을 흉내 냅니다.
+ */
+public class Workload {
+
+    /**
+     * 작업 종류와 요청 비율(가중치).
+     */
+    public enum Operation {
+
+        LIST_MEETINGS(20),
+        MEETING_SUMMARIES(5),
+        GET_MEETING(20),
+        MEETING_NON_ATTENDEES(5),
+        LIST_PARTICIPANTS(10),
+        GET_PARTICIPANT(10),
+        SEARCH_PARTICIPANTS(10),
+        SEASON_GROUPS(5),
+        GET_PROFILE(10),
+        UPDATE_PARTICIPANT(5);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final int TOTAL_WEIGHT = Arrays.stream(Operation.values()).mapToInt(o -> o.weight).sum();
+    private static final String[] POSITIONS = {"회장", "부회장", "총무", "회원"};
+
+    private final URI baseUri;
+    private final List<UUID> participantIds;
+    private final List<String> participantNames;
+    private final List<UUID> meetingIds;
+
+    public Workload(URI baseUri, DataSeeder.SeedResult seed) {
+        this.baseUri = baseUri;
+        this.participantIds = seed.participantIds();
+        this.participantNames = seed.participantNames();
+        this.meetingIds = seed.meetingIds();
+    }
+
+    /**
+     * 독립된 난수 생성기를 가진 클라이언트를 만듭니다.
+     *
+     * @param seed 난수 시드
+     * @return 클라이언트
+     */
+    public Client newClient(long seed) {
+        return new Client(new Random(seed));
+    }
+
+    /**
+     * 보낼 요청과 그 작업 종류.
+     */
+    public record Request(Operation operation, HttpRequest.Builder builder) {
+    }
+
+    /**
+     * 한 클라이언트가 보낼 요청을 차례로 만듭니다. 스레드 간에 공유하지 않습니다.
+     */
+    public class Client {
+
+        private final Random random;
+
+        private Client(Random random) {
+            this.random = random;
+        }
+
+        public Request next() {
+            Operation operation = pick();
+            return new Request(operation, switch (operation) {
+                case LIST_MEETINGS -> get("/meetings?size=20");
+                case MEETING_SUMMARIES -> get("/meetings/summary");
+                case GET_MEETING -> get("/meetings/" + any(meetingIds));
+                case MEETING_NON_ATTENDEES -> get("/meetings/" + any(meetingIds) + "/non-attendees?size=20");
+                case LIST_PARTICIPANTS -> get("/participants?size=50");
+                case GET_PARTICIPANT -> get("/participants/" + any(participantIds));
+                case SEARCH_PARTICIPANTS -> get("/participants/search?size=20&q="
+                        + URLEncoder.encode(any(participantNames).substring(0, 2), StandardCharsets.UTF_8));
+                case SEASON_GROUPS -> get("/participants/grouped-by-season?size=10");
+                case GET_PROFILE -> get("/profiles/participant/" + any(participantIds));
+                case UPDATE_PARTICIPANT -> HttpRequest.newBuilder(baseUri.resolve("/participants/" + any(participantIds)))
+                        .header("Content-Type", "application/json")
+                        .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                                "{\"position\":\"" + POSITIONS[random.nextInt(POSITIONS.length)] + "\"}"));
+            });
+        }
+
+        private Operation pick() {
+            int value = random.nextInt(TOTAL_WEIGHT);
+            for (Operation operation : Operation.values()) {
+                value -= operation.weight;
+                if (value < 0) {
+                    return operation;
+                }
+            }
+            throw new IllegalStateException();
+        }
+
+        private <T> T any(List<T> values) {
+            return values.get(random.nextInt(values.size()));
+        }
+
+        private HttpRequest.Builder get(String path) {
+            return HttpRequest.newBuilder(baseUri.resolve(path)).GET();
+        }
+    }
+}
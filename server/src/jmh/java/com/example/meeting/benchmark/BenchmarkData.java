@@ -0,0 +1,111 @@
+package com.example.meeting.benchmark;
+
+import com.example.meeting.domain.Meeting;
+import com.example.meeting.domain.Participant;
+import com.example.meeting.domain.Profile;
+import com.example.meeting.util.UuidUtil;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 벤치마크에서 사용하는 엔티티 그래프와 ObjectMapper를 만듭니다.
+ * 값은 고정된 시드로 생성되어 실행마다 같은 데이터가 사용됩니다.
+ */
+public final class BenchmarkData {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 15, 12, 0);
+    private static final String[] POSITIONS = {"회장", "부회장", "총무", "회원"};
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * 참여자와 프로필을 포함한 모임을 만듭니다.
+     *
+     * @param participants 참여자 수
+     * @param inlineImageBytes 0보다 크면 프로필 이미지를 이 크기의 base64 data URL로 포함하고, 0이면 이미지 저장소 키를 사용
+     * @return 모임 엔티티
+     */
+    public static Meeting meeting(int participants, int inlineImageBytes) {
+        Random random = new Random(42);
+        Set<Participant> members = new LinkedHashSet<>();
+        for (int i = 0; i < participants; i++) {
+            members.add(participant(i, inlineImageBytes, random));
+        }
+        return Meeting.builder()
+                .id(UuidUtil.timeOrdered())
+                .title("정기 모임")
+                .desc("분기별 정기 모임입니다. 참석 여부를 미리 알려 주세요.")
+                .date(BASE_TIME.plusDays(7))
+                .location("서울 강남구 테헤란로 123")
+                .participants(members)
+                .createdAt(BASE_TIME)
+                .updatedAt(BASE_TIME.plusHours(1))
+                .build();
+    }
+
+    /**
+     * 프로필을 포함한 참여자를 만듭니다.
+     *
+     * @param index 참여자 번호
+     * @param inlineImageBytes 프로필 이미지 크기 (0이면 이미지 저장소 키 사용)
+     * @param random 난수 생성기
+     * @return 참여자 엔티티
+     */
+    public static Participant participant(int index, int inlineImageBytes, Random random) {
+        Participant participant = Participant.builder()
+                .id(UuidUtil.timeOrdered())
+                .name("참여자" + index)
+                .position(POSITIONS[index % POSITIONS.length])
+                .season((index % 30 + 1) + "기")
+                .phone(String.format("010-%04d-%04d", index / 10000, index % 10000))
+                .createdAt(BASE_TIME.minusDays(index))
+                .updatedAt(BASE_TIME)
+                .build();
+
+        Profile.ProfileBuilder profile = Profile.builder()
+                .id(participant.getId())
+                .participant(participant)
+                .updatedAt(BASE_TIME);
+        if (inlineImageBytes > 0) {
+            byte[] image = new byte[inlineImageBytes];
+            random.nextBytes(image);
+            profile.imageUrl("data:image/png;base64," + Base64.getEncoder().encodeToString(image));
+        } else {
+            profile.imageKey(Integer.toHexString(random.nextInt()).repeat(8))
+                    .imageContentType("image/png")
+                    .imageSize(64_000L);
+        }
+        participant.setProfile(profile.build());
+        return participant;
+    }
+
+    /**
+     * 애플리케이션과 같은 설정(날짜를 ISO 문자열로 출력)의 ObjectMapper를 만듭니다.
+     *
+     * @return ObjectMapper
+     */
+    public static ObjectMapper objectMapper() {
+        return objectMapper(new JsonFactory());
+    }
+
+    /**
+     * 주어진 데이터 형식(Smile, CBOR 등)으로 출력하는 같은 설정의 ObjectMapper를 만듭니다.
+     *
+     * @param factory 데이터 형식의 JsonFactory
+     * @return ObjectMapper
+     */
+    public static ObjectMapper objectMapper(JsonFactory factory) {
+        return new ObjectMapper(factory)
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.meeting.benchmark;
+
+import com.example.meeting.util.DateTimeUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트가 보내는 ISO 날짜 문자열의 변환 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateTimeParseBenchmark {
+
+    @Param({"2026-01-15T12:00:00.000Z", "2026-01-15T12:00:00Z", "2026-01-15T12:00:00"})
+    private String input;
+
+    @Benchmark
+    public LocalDateTime parseIsoString() {
+        return DateTimeUtil.parseIsoString(input);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.meeting.benchmark;
+
+import com.example.meeting.domain.Meeting;
+import com.example.meeting.domain.Participant;
+import com.example.meeting.dto.MeetingDto;
+import com.example.meeting.dto.ParticipantDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티에서 응답 DTO로의 변환 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoMappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int participants;
+
+    private Meeting meeting;
+    private Participant participant;
+
+    @Setup
+    public void setUp() {
+        meeting = BenchmarkData.meeting(participants, 0);
+        participant = meeting.getParticipants().iterator().next();
+    }
+
+    @Benchmark
+    public MeetingDto.Response meetingResponseFrom() {
+        return MeetingDto.Response.from(meeting);
+    }
+
+    @Benchmark
+    public ParticipantDto.Response participantResponseFrom() {
+        return ParticipantDto.Response.from(participant);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.meeting.benchmark;
+
+import com.example.meeting.dto.MeetingDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모임 응답 그래프의 JSON 직렬화 비용을 측정합니다.
+ * 프로필 이미지가 base64 data URL로 포함된 이전 형식의 응답과 이미지 링크만 포함된 응답을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int participants;
+
+    /**
+     * 참여자별 프로필 이미지 크기 (0이면 이미지 링크)
+     */
+    @Param({"0", "16384", "65536"})
+    private int imageBytes;
+
+    private ObjectMapper objectMapper;
+    private MeetingDto.Response meeting;
+    private List<MeetingDto.Response> meetings;
+
+    @Setup
+    public void setUp() {
+        objectMapper = BenchmarkData.objectMapper();
+        meeting = MeetingDto.Response.from(BenchmarkData.meeting(participants, imageBytes));
+        meetings = List.of(meeting, meeting, meeting, meeting, meeting, meeting, meeting, meeting, meeting, meeting);
+    }
+
+    @Benchmark
+    public byte[] serializeMeeting() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(meeting);
+    }
+
+    @Benchmark
+    public byte[] serializeMeetingList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(meetings);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.meeting.benchmark;
+
+import com.example.meeting.dto.MeetingDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 모임 응답 그래프의 응답 형식별 인코딩 시간과 전송 바이트 수를 비교합니다.
+ * JSON, 서버 응답 압축과 같은 기본 압축 수준의 gzip JSON, Smile, CBOR로 인코딩하며,
+ * 전송 바이트 수는 시행이 끝날 때마다 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WireFormatBenchmark {
+
+    @Param({"json", "json-gzip", "smile", "cbor"})
+    private String format;
+
+    @Param({"10", "100"})
+    private int participants;
+
+    /**
+     * 참여자별 프로필 이미지 크기 (0이면 이미지 링크)
+     */
+    @Param({"0", "16384"})
+    private int imageBytes;
+
+    private ObjectMapper objectMapper;
+    private boolean gzip;
+    private MeetingDto.Response meeting;
+
+    @Setup
+    public void setUp() {
+        objectMapper = switch (format) {
+            case "json", "json-gzip" -> BenchmarkData.objectMapper();
+            case "smile" -> BenchmarkData.objectMapper(new SmileFactory());
+            case "cbor" -> BenchmarkData.objectMapper(new CBORFactory());
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        gzip = format.equals("json-gzip");
+        meeting = MeetingDto.Response.from(BenchmarkData.meeting(participants, imageBytes));
+    }
+
+    @TearDown
+    public void printSize() throws IOException {
+        System.out.printf("%n[wire bytes] format=%s participants=%d imageBytes=%d: %d%n",
+                format, participants, imageBytes, encodeMeeting().length);
+    }
+
+    @Benchmark
+    public byte[] encodeMeeting() throws IOException {
+        if (!gzip) {
+            return objectMapper.writeValueAsBytes(meeting);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, meeting);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.meeting.config;
+
+import com.example.meeting.dto.MeetingDto;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String MEETINGS = "meetings";
+    public static final String MEETING_LIST = "meetingList";
+    public static final String MEETING_SUMMARIES = "meetingSummaries";
+    public static final String PARTICIPANTS = "participants";
+    public static final String PARTICIPANT_LIST = "participantList";
+    public static final String PARTICIPANT_SUMMARIES = "participantSummaries";
+
+    @Value("${cache.maximum-weight}")
+    private long maximumWeight;
+
+    @Value("${cache.expire-after-write}")
+    private Duration expireAfterWrite;
+
+    /**
+     * 모임/참여자 응답 DTO를 위한 인메모리 캐시.
+     * 캐시별로 응답에 포함된 항목 수 기준의 가중치 상한을 두며,
+     * 트랜잭션 안에서의 무효화는 커밋 이후에 적용되어 커밋 전 데이터가 다시 캐시되지 않도록 합니다.
+     * 조회 메서드는 응답 ETag를 캐시 키에 포함하므로, 캐시된 본문은 항상 함께 보내는 ETag를 계산한 뒤에 조회한 데이터입니다.
+     */
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new ResponseCache(name, cache, isAllowNullValues());
+            }
+        };
+        cacheManager.setCacheNames(List.of(
+                MEETINGS, MEETING_LIST, MEETING_SUMMARIES, PARTICIPANTS, PARTICIPANT_LIST, PARTICIPANT_SUMMARIES));
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher(CacheConfig::weigh)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    /**
+     * 캐시 값의 가중치를 포함된 응답 항목 수로 추정합니다.
+     * 모임 응답은 포함된 참여자 수만큼 가중치가 더해집니다.
+     */
+    private static int weigh(Object key, Object value) {
+        if (value instanceof Collection<?> values) {
+            return Math.max(1, values.stream().mapToInt(item -> weigh(key, item)).sum());
+        }
+        if (value instanceof MeetingDto.Response meeting && meeting.getParticipants() != null) {
+            return 1 + meeting.getParticipants().size();
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.meeting.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+public class ImageConfig {
+
+    @Value("${image.variants.threads}")
+    private int threads;
+
+    @Value("${image.variants.queue-capacity}")
+    private int queueCapacity;
+
+    /**
+     * 프로필 이미지 축소 변형 생성을 위한 제한된 크기의 실행기.
+     * 대기열이 가득 차면 작업을 거절하며, 거절된 변형은 그 크기를 다음에 조회할 때 다시 예약됩니다.
+     */
+    @Bean(name = "imageVariantExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor imageVariantExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.initialize();
+        return executor;
+    }
+}
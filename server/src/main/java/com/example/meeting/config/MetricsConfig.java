@@ -0,0 +1,87 @@
+package com.example.meeting.config;
+
+import com.example.meeting.filter.RequestMetricsFilter;
+import com.example.meeting.filter.SqlBudgetFilter;
+import com.example.meeting.metrics.RequestStatisticsIntegrator;
+import com.example.meeting.metrics.RequestStatisticsSessionListener;
+import com.example.meeting.metrics.SqlCaptureInspector;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class MetricsConfig {
+
+    @Value("${sql-budget.max-statements}")
+    private int maxStatements;
+
+    @Value("${sql-budget.max-jdbc-time}")
+    private Duration maxJdbcTime;
+
+    @Value("${sql-budget.fail-on-exceed}")
+    private boolean failOnExceed;
+
+    @Value("${sql-budget.timing-buffer-size}")
+    private DataSize timingBufferSize;
+
+    /**
+     * 클래스에 @Timed가 붙은 서비스의 모든 public 메서드 실행 시간과 횟수를 기록합니다.
+     * 메트릭 이름은 service.method이며 class, method, exception 태그가 붙습니다.
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * 요청별 Hibernate 통계를 집계하기 위해 세션 이벤트 리스너, 엔티티 로드 리스너, SQL 인스펙터를 등록합니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer requestStatisticsCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                    RequestStatisticsSessionListener.class.getName());
+            properties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER,
+                    (IntegratorProvider) () -> List.of(new RequestStatisticsIntegrator()));
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlCaptureInspector());
+        };
+    }
+
+    /**
+     * 엔드포인트별 SQL 문 수, 엔티티 로드 수, 응답 크기를 기록하는 필터.
+     * 처리된 예외를 태그로 남기려면 관측 필터(ServerHttpObservationFilter)보다 안쪽에서 실행되어야 합니다.
+     */
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestMetricsFilter> registration =
+                new FilterRegistrationBean<>(new RequestMetricsFilter(meterRegistry));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+
+    /**
+     * 요청마다 SQL 예산을 확인하고 Server-Timing 헤더를 붙이는 필터.
+     * 요청별 통계를 시작하는 {@link RequestMetricsFilter}보다 안쪽에서 실행됩니다.
+     */
+    @Bean
+    public FilterRegistrationBean<SqlBudgetFilter> sqlBudgetFilter() {
+        FilterRegistrationBean<SqlBudgetFilter> registration = new FilterRegistrationBean<>(
+                new SqlBudgetFilter(maxStatements, maxJdbcTime, failOnExceed, (int) timingBufferSize.toBytes()));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
+        return registration;
+    }
+}
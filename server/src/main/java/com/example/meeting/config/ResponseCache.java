@@ -0,0 +1,79 @@
+package com.example.meeting.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 응답 DTO를 보관하는 Caffeine 캐시.
+ * 단건 캐시의 키는 {ID, 프로필 포함 여부, ETag} 목록이므로, 목록 키로 제거하면
+ * 그 목록으로 시작하는 모든 키(같은 ID의 모든 표현과 ETag)를 제거합니다.
+ *
+ * 제거할 때마다 세대 번호를 올리고, 조회 중에 세대가 바뀌었으면 조회 결과를 캐시에서 지웁니다.
+ * 쓰기 트랜잭션이 커밋되기 전에 시작된 조회는 무효화 이후에 끝나더라도 이전 값을 캐시에 남기지 않으므로,
+ * 조회가 얼마나 오래 걸리든 무효화가 유지됩니다. 세대 검사는 값 로더를 받는 조회에서만 이루어지므로
+ * 이 캐시를 쓰는 {@code @Cacheable}은 {@code sync = true}로 선언해야 합니다.
+ */
+public class ResponseCache extends CaffeineCache {
+
+    private final AtomicLong generation = new AtomicLong();
+
+    public ResponseCache(String name, Cache<Object, Object> cache, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    /**
+     * 값을 조회하거나 로딩합니다.
+     * 로딩하는 동안 제거가 일어났으면 로딩한 값은 반환만 하고 캐시에서는 지웁니다.
+     * 세대를 먼저 올린 뒤 제거하므로, 값을 넣은 뒤 세대가 그대로이면 이후의 제거가 그 값을 지웁니다.
+     */
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        long loadGeneration = generation.get();
+        T value = super.get(key, valueLoader);
+        if (generation.get() != loadGeneration) {
+            getNativeCache().invalidate(key);
+        }
+        return value;
+    }
+
+    @Override
+    public void evict(Object key) {
+        generation.incrementAndGet();
+        if (key instanceof List<?> prefix) {
+            getNativeCache().asMap().keySet().removeIf(candidate -> startsWith(candidate, prefix));
+            return;
+        }
+        super.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        generation.incrementAndGet();
+        if (key instanceof List<?> prefix) {
+            return getNativeCache().asMap().keySet().removeIf(candidate -> startsWith(candidate, prefix));
+        }
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        generation.incrementAndGet();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        generation.incrementAndGet();
+        return super.invalidate();
+    }
+
+    private static boolean startsWith(Object candidate, List<?> prefix) {
+        return candidate instanceof List<?> key
+                && key.size() >= prefix.size()
+                && key.subList(0, prefix.size()).equals(prefix);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.meeting.config;
+
+import com.example.meeting.filter.ConcurrencyLimitFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+@Slf4j
+@Configuration
+@Profile("virtual")
+public class VirtualThreadConfig {
+
+    @Value("${virtual-threads.max-concurrent-requests}")
+    private int maxConcurrentRequests;
+
+    @Value("${virtual-threads.acquire-timeout}")
+    private Duration acquireTimeout;
+
+    /**
+     * 가상 스레드 모드에서 동시에 처리되는 요청 수를 제한하는 필터.
+     * 커넥션 풀보다 넉넉하게 두어 캐시로 응답하는 요청은 막지 않으면서,
+     * 커넥션 대기열이 끝없이 길어져 H2에 요청이 몰리는 것을 방지합니다.
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(ObjectMapper objectMapper) {
+        if (Runtime.version().feature() < 21) {
+            log.warn("The virtual profile requires Java 21 or later; requests run on platform threads");
+        }
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(maxConcurrentRequests, acquireTimeout, objectMapper));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
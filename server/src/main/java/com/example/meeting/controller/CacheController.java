@@ -0,0 +1,32 @@
+package com.example.meeting.controller;
+
+import com.example.meeting.dto.CacheDto;
+import com.example.meeting.service.CacheStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 응답 캐시 상태 조회를 위한 REST 컨트롤러.
+ */
+@RestController
+@RequestMapping("/cache")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final CacheStatsService cacheStatsService;
+
+    /**
+     * 모든 캐시의 적중/미스/제거 통계를 조회합니다.
+     *
+     * @return 캐시별 통계 목록
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheDto.Stats>> findStats() {
+        return ResponseEntity.ok(cacheStatsService.findAll());
+    }
+}
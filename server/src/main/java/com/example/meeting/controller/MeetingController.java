@@ -1,14 +1,34 @@
 package com.example.meeting.controller;
 
+import com.example.meeting.dto.ImportDto;
 import com.example.meeting.dto.MeetingDto;
+import com.example.meeting.dto.PageDto;
+import com.example.meeting.dto.ParticipantDto;
+import com.example.meeting.metrics.SqlBudget;
+import com.example.meeting.service.EtagService;
+import com.example.meeting.service.ExportService;
+import com.example.meeting.service.FileFormat;
+import com.example.meeting.service.ImportService;
+import com.example.meeting.service.Include;
 import com.example.meeting.service.MeetingService;
+import com.example.meeting.util.EtagUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * 모임 관리를 위한 REST 컨트롤러.
@@ -20,26 +40,132 @@ import java.util.List;
 public class MeetingController {
 
     private final MeetingService meetingService;
+    private final EtagService etagService;
+    private final ExportService exportService;
+    private final ImportService importService;
 
     /**
      * 최근 수정된 순서로 모든 모임을 조회합니다.
+     * 참여자의 프로필은 include=profile로 요청한 경우에만 조회하여 포함합니다.
      *
+     * 목록이 변경되지 않았으면 본문 없이 304로 응답합니다.
+     *
+     * @param include 응답에 포함할 연관 데이터 (선택 사항, "profile")
+     * @param request 조건부 요청 헤더를 포함하는 요청
      * @return 모든 모임 목록
      */
+    @SqlBudget(statements = 5)
     @GetMapping
-    public ResponseEntity<List<MeetingDto.Response>> findAll() {
-        return ResponseEntity.ok(meetingService.findAll());
+    public ResponseEntity<List<MeetingDto.Response>> findAll(
+            @RequestParam(value = "include", required = false) List<String> include,
+            WebRequest request) {
+        Set<Include> includes = Include.from(include);
+        String etag = EtagUtil.variant(etagService.meetingListEtag(), includes);
+        return EtagUtil.conditional(request, etag, () -> meetingService.findAll(includes.contains(Include.PROFILE), etag));
+    }
+
+    /**
+     * 최근 수정된 순서로 한 페이지 분량의 모임을 조회합니다.
+     * size 파라미터가 있을 때 사용되며, 다음 페이지는 page 또는 응답의 nextCursor로 조회합니다.
+     *
+     * @param page 페이지 번호 (선택 사항)
+     * @param size 페이지 크기
+     * @param cursor 이전 페이지 응답의 nextCursor (선택 사항)
+     * @param include 응답에 포함할 연관 데이터 (선택 사항, "profile")
+     * @param request 조건부 요청 헤더를 포함하는 요청
+     * @return 모임 페이지
+     */
+    @SqlBudget(statements = 5)
+    @GetMapping(params = "size")
+    public ResponseEntity<PageDto.Response<MeetingDto.Response>> findPage(
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam("size") int size,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "include", required = false) List<String> include,
+            WebRequest request) {
+        Set<Include> includes = Include.from(include);
+        return EtagUtil.conditional(request, EtagUtil.variant(etagService.meetingListEtag(), includes),
+                () -> meetingService.findPage(page, size, cursor, includes.contains(Include.PROFILE)));
+    }
+
+    /**
+     * 모든 모임과 참석자를 파일로 내보냅니다.
+     * 목록을 메모리에 모으지 않고 조회하는 대로 응답에 기록합니다.
+     *
+     * @param format 내보내기 형식 ("ndjson" 또는 "csv", 기본값 ndjson)
+     * @return 스트리밍 응답 본문
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(value = "format", defaultValue = "ndjson") String format) {
+        FileFormat exportFormat = FileFormat.from(format);
+        StreamingResponseBody body = out -> exportService.writeMeetings(out, exportFormat);
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("meetings." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    /**
+     * 목록 화면을 위한 모든 모임의 요약 정보를 조회합니다.
+     *
+     * @param request 조건부 요청 헤더를 포함하는 요청
+     * @return 모임 요약 목록
+     */
+    @SqlBudget(statements = 5)
+    @GetMapping("/summary")
+    public ResponseEntity<List<MeetingDto.Summary>> findAllSummaries(WebRequest request) {
+        String etag = etagService.meetingListEtag();
+        return EtagUtil.conditional(request, etag, () -> meetingService.findAllSummaries(etag));
     }
 
     /**
      * ID로 특정 모임을 조회합니다.
+     * 변경되지 않았으면 엔티티를 로딩하지 않고 304로 응답합니다.
      *
      * @param id 모임 ID
+     * @param include 응답에 포함할 연관 데이터 (선택 사항, "profile")
+     * @param request 조건부 요청 헤더를 포함하는 요청
      * @return 모임 상세 정보
      */
+    @SqlBudget(statements = 5)
     @GetMapping("/{id}")
-    public ResponseEntity<MeetingDto.Response> findById(@PathVariable("id") String id) {
-        return ResponseEntity.ok(meetingService.findById(id));
+    public ResponseEntity<MeetingDto.Response> findById(
+            @PathVariable("id") UUID id,
+            @RequestParam(value = "include", required = false) List<String> include,
+            WebRequest request) {
+        Set<Include> includes = Include.from(include);
+        String etag = EtagUtil.variant(etagService.meetingEtag(id).orElse(null), includes);
+        return EtagUtil.conditional(request, etag,
+                () -> meetingService.findById(id, includes.contains(Include.PROFILE), etag));
+    }
+
+    /**
+     * 모임에 참석하지 않는 참여자를 기수, 이름 순으로 한 페이지 분량만 조회합니다.
+     *
+     * @param id 모임 ID
+     * @param query 이름 또는 기수 검색어 (선택 사항)
+     * @param page 페이지 번호 (선택 사항)
+     * @param size 페이지 크기 (기본값 20)
+     * @param include 응답에 포함할 연관 데이터 (선택 사항, "profile")
+     * @param request 조건부 요청 헤더를 포함하는 요청
+     * @return 미참석자 페이지
+     */
+    @SqlBudget(statements = 5)
+    @GetMapping("/{id}/non-attendees")
+    public ResponseEntity<PageDto.Response<ParticipantDto.Response>> findNonAttendees(
+            @PathVariable("id") UUID id,
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "include", required = false) List<String> include,
+            WebRequest request) {
+        Set<Include> includes = Include.from(include);
+        return EtagUtil.conditional(request, EtagUtil.variant(etagService.nonAttendeeEtag(id).orElse(null), includes),
+                () -> meetingService.findNonAttendees(id, query, page, size, includes.contains(Include.PROFILE)));
     }
 
     /**
@@ -62,11 +188,73 @@ public class MeetingController {
      */
     @PatchMapping("/{id}")
     public ResponseEntity<MeetingDto.Response> update(
-            @PathVariable("id") String id,
+            @PathVariable("id") UUID id,
             @RequestBody MeetingDto.Update dto) {
         return ResponseEntity.ok(meetingService.update(id, dto));
     }
 
+    /**
+     * 모임에 참여자들을 추가합니다.
+     *
+     * @param id 모임 ID
+     * @param dto 추가할 참여자 ID 목록
+     * @return 수정된 모임
+     */
+    @PostMapping("/{id}/participants")
+    public ResponseEntity<MeetingDto.Response> addParticipants(
+            @PathVariable("id") UUID id,
+            @Valid @RequestBody MeetingDto.AddParticipants dto) {
+        return ResponseEntity.ok(meetingService.addParticipants(id, dto.getParticipantIds()));
+    }
+
+    /**
+     * 파일의 모임 참석 기록을 일괄로 추가합니다.
+     * 참여자는 전화번호로 식별하며, 실패한 행은 줄 번호와 함께 결과에 포함합니다.
+     *
+     * @param file 가져올 파일 (CSV는 meetingId, phone 헤더 필요)
+     * @param format 파일 형식 ("ndjson" 또는 "csv", 선택 사항이며 없으면 파일 확장자로 판단)
+     * @return 가져오기 결과
+     * @throws IOException 업로드된 파일을 읽을 수 없는 경우
+     */
+    @SqlBudget(statements = 10_000, jdbcMillis = 60_000)
+    @PostMapping(value = "/attendance/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportDto.Result> importAttendance(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(value = "format", required = false) String format) throws IOException {
+        FileFormat importFormat = FileFormat.of(format, file.getOriginalFilename());
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(importService.importAttendance(in, importFormat));
+        }
+    }
+
+    /**
+     * 모임에서 참여자 한 명을 제외합니다.
+     *
+     * @param id 모임 ID
+     * @param participantId 제외할 참여자 ID
+     * @return 수정된 모임
+     */
+    @DeleteMapping("/{id}/participants/{participantId}")
+    public ResponseEntity<MeetingDto.Response> removeParticipant(
+            @PathVariable("id") UUID id,
+            @PathVariable("participantId") UUID participantId) {
+        return ResponseEntity.ok(meetingService.removeParticipants(id, List.of(participantId)));
+    }
+
+    /**
+     * 모임에서 여러 참여자를 제외합니다.
+     *
+     * @param id 모임 ID
+     * @param participantIds 제외할 참여자 ID 목록
+     * @return 수정된 모임
+     */
+    @DeleteMapping("/{id}/participants")
+    public ResponseEntity<MeetingDto.Response> removeParticipants(
+            @PathVariable("id") UUID id,
+            @RequestParam("ids") List<UUID> participantIds) {
+        return ResponseEntity.ok(meetingService.removeParticipants(id, participantIds));
+    }
+
     /**
      * 모임을 삭제합니다.
      *
@@ -74,8 +262,20 @@ public class MeetingController {
      * @return 내용 없음 응답
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable("id") String id) {
+    public ResponseEntity<Void> delete(@PathVariable("id") UUID id) {
         meetingService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 여러 모임을 한 번에 삭제합니다.
+     *
+     * @param dto 삭제할 모임 ID 목록
+     * @return 내용 없음 응답
+     */
+    @PostMapping("/batch-delete")
+    public ResponseEntity<Void> deleteAll(@Valid @RequestBody MeetingDto.BatchDelete dto) {
+        meetingService.deleteAll(dto.getIds());
+        return ResponseEntity.noContent().build();
+    }
 }
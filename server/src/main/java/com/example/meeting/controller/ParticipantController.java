@@ -1,14 +1,33 @@
 package com.example.meeting.controller;
 
+import com.example.meeting.dto.ImportDto;
+import com.example.meeting.dto.PageDto;
 import com.example.meeting.dto.ParticipantDto;
+import com.example.meeting.metrics.SqlBudget;
+import com.example.meeting.service.EtagService;
+import com.example.meeting.service.ExportService;
+import com.example.meeting.service.FileFormat;
+import com.example.meeting.service.ImportService;
+import com.example.meeting.service.Include;
 import com.example.meeting.service.ParticipantService;
+import com.example.meeting.util.EtagUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * 참여자 관리를 위한 REST 컨트롤러.
@@ -20,26 +39,180 @@ import java.util.List;
 public class ParticipantController {
 
     private final ParticipantService participantService;
+    private final EtagService etagService;
+    private final ExportService exportService;
+    private final ImportService importService;
 
     /**
      * 모든 참여자를 조회합니다.
+     * 프로필은 include=profile로 요청한 경우에만 조회하여 포함합니다.
      *
+     * 목록이 변경되지 않았으면 본문 없이 304로 응답합니다.
+     *
+     * @param include 응답에 포함할 연관 데이터 (선택 사항, "profile")
+     * @param request 조건부 요청 헤더를 포함하는 요청
      * @return 모든 참여자 목록
      */
+    @SqlBudget(statements = 5)
     @GetMapping
-    public ResponseEntity<List<ParticipantDto.Response>> findAll() {
-        return ResponseEntity.ok(participantService.findAll());
+    public ResponseEntity<List<ParticipantDto.Response>> findAll(
+            @RequestParam(value = "include", required = false) List<String> include,
+            WebRequest request) {
+        Set<Include> includes = Include.from(include);
+        String etag = EtagUtil.variant(etagService.participantListEtag(), includes);
+        return EtagUtil.conditional(request, etag,
+                () -> participantService.findAll(includes.contains(Include.PROFILE), etag));
+    }
+
+    /**
+     * 최근 수정된 순서로 한 페이지 분량의 참여자를 조회합니다.
+     * size 파라미터가 있을 때 사용되며, 다음 페이지는 page 또는 응답의 nextCursor로 조회합니다.
+     *
+     * @param page 페이지 번호 (선택 사항)
+     * @param size 페이지 크기
+     * @param cursor 이전 페이지 응답의 nextCursor (선택 사항)
+     * @param include 응답에 포함할 연관 데이터 (선택 사항, "profile")
+     * @param request 조건부 요청 헤더를 포함하는 요청
+     * @return 참여자 페이지
+     */
+    @SqlBudget(statements = 5)
+    @GetMapping(params = "size")
+    public ResponseEntity<PageDto.Response<ParticipantDto.Response>> findPage(
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam("size") int size,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "include", required = false) List<String> include,
+            WebRequest request) {
+        Set<Include> includes = Include.from(include);
+        return EtagUtil.conditional(request, EtagUtil.variant(etagService.participantListEtag(), includes),
+                () -> participantService.findPage(page, size, cursor, includes.contains(Include.PROFILE)));
+    }
+
+    /**
+     * 이름 또는 기수로 참여자를 검색합니다.
+     * 이름 일치, 이름 접두어, 이름 포함, 초성, 기수 포함 순으로 정렬됩니다.
+     *
+     * @param query 이름 또는 기수 검색어 (선택 사항, 초성 검색 가능)
+     * @param season 기수 필터 (선택 사항)
+     * @param position 직책 필터 (선택 사항)
+     * @param page 페이지 번호 (선택 사항)
+     * @param size 페이지 크기 (기본값 20)
+     * @param include 응답에 포함할 연관 데이터 (선택 사항, "profile")
+     * @param request 조건부 요청 헤더를 포함하는 요청
+     * @return 검색된 참여자 페이지
+     */
+    @SqlBudget(statements = 5)
+    @GetMapping("/search")
+    public ResponseEntity<PageDto.Response<ParticipantDto.Response>> search(
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "season", required = false) String season,
+            @RequestParam(value = "position", required = false) String position,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "include", required = false) List<String> include,
+            WebRequest request) {
+        Set<Include> includes = Include.from(include);
+        return EtagUtil.conditional(request, EtagUtil.variant(etagService.participantListEtag(), includes),
+                () -> participantService.search(query, season, position, page, size, includes.contains(Include.PROFILE)));
+    }
+
+    /**
+     * 모든 참여자를 파일로 내보냅니다.
+     * 목록을 메모리에 모으지 않고 조회하는 대로 응답에 기록합니다.
+     *
+     * @param format 내보내기 형식 ("ndjson" 또는 "csv", 기본값 ndjson)
+     * @return 스트리밍 응답 본문
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(value = "format", defaultValue = "ndjson") String format) {
+        FileFormat exportFormat = FileFormat.from(format);
+        StreamingResponseBody body = out -> exportService.writeParticipants(out, exportFormat);
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("participants." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    /**
+     * 목록 화면을 위한 모든 참여자의 요약 정보를 조회합니다.
+     *
+     * @param request 조건부 요청 헤더를 포함하는 요청
+     * @return 참여자 요약 목록
+     */
+    @SqlBudget(statements = 5)
+    @GetMapping("/summary")
+    public ResponseEntity<List<ParticipantDto.Summary>> findAllSummaries(WebRequest request) {
+        String etag = etagService.participantListEtag();
+        return EtagUtil.conditional(request, etag, () -> participantService.findAllSummaries(etag));
+    }
+
+    /**
+     * 기수별 참여자 그룹을 기수의 자연 정렬 순서로 조회합니다.
+     * 각 그룹에는 이름 순으로 첫 페이지만 포함됩니다.
+     *
+     * @param size 그룹별 첫 페이지 크기 (기본값 20, 0이면 기수와 인원만 조회)
+     * @param include 응답에 포함할 연관 데이터 (선택 사항, "profile")
+     * @param request 조건부 요청 헤더를 포함하는 요청
+     * @return 기수 그룹 목록
+     */
+    @SqlBudget(statements = 5)
+    @GetMapping("/grouped-by-season")
+    public ResponseEntity<List<ParticipantDto.SeasonGroup>> findSeasonGroups(
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "include", required = false) List<String> include,
+            WebRequest request) {
+        Set<Include> includes = Include.from(include);
+        return EtagUtil.conditional(request, EtagUtil.variant(etagService.participantListEtag(), includes),
+                () -> participantService.findSeasonGroups(size, includes.contains(Include.PROFILE)));
+    }
+
+    /**
+     * 한 기수의 참여자를 이름 순으로 한 페이지 분량만 조회합니다.
+     * season 파라미터가 있을 때 사용되며, 기수 그룹을 하나씩 이어서 불러올 때 사용합니다.
+     *
+     * @param season 기수
+     * @param page 페이지 번호 (선택 사항)
+     * @param size 페이지 크기 (기본값 20)
+     * @param include 응답에 포함할 연관 데이터 (선택 사항, "profile")
+     * @param request 조건부 요청 헤더를 포함하는 요청
+     * @return 기수의 참여자 페이지
+     */
+    @SqlBudget(statements = 5)
+    @GetMapping(value = "/grouped-by-season", params = "season")
+    public ResponseEntity<PageDto.Response<ParticipantDto.Response>> findSeasonPage(
+            @RequestParam("season") String season,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "include", required = false) List<String> include,
+            WebRequest request) {
+        Set<Include> includes = Include.from(include);
+        return EtagUtil.conditional(request, EtagUtil.variant(etagService.participantListEtag(), includes),
+                () -> participantService.findSeasonPage(season, page, size, includes.contains(Include.PROFILE)));
     }
 
     /**
      * ID로 특정 참여자를 조회합니다.
+     * 변경되지 않았으면 엔티티를 로딩하지 않고 304로 응답합니다.
      *
      * @param id 참여자 ID
+     * @param include 응답에 포함할 연관 데이터 (선택 사항, "profile")
+     * @param request 조건부 요청 헤더를 포함하는 요청
      * @return 참여자 상세 정보
      */
+    @SqlBudget(statements = 5)
     @GetMapping("/{id}")
-    public ResponseEntity<ParticipantDto.Response> findById(@PathVariable("id") String id) {
-        return ResponseEntity.ok(participantService.findById(id));
+    public ResponseEntity<ParticipantDto.Response> findById(
+            @PathVariable("id") UUID id,
+            @RequestParam(value = "include", required = false) List<String> include,
+            WebRequest request) {
+        Set<Include> includes = Include.from(include);
+        String etag = EtagUtil.variant(etagService.participantEtag(id).orElse(null), includes);
+        return EtagUtil.conditional(request, etag,
+                () -> participantService.findById(id, includes.contains(Include.PROFILE), etag));
     }
 
     /**
@@ -53,6 +226,37 @@ public class ParticipantController {
         return ResponseEntity.status(HttpStatus.CREATED).body(participantService.create(dto));
     }
 
+    /**
+     * 여러 참여자를 한 번에 생성합니다.
+     *
+     * @param dto 생성할 참여자 목록
+     * @return 생성된 참여자 목록
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<ParticipantDto.Response>> createAll(@Valid @RequestBody ParticipantDto.BatchCreate dto) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(participantService.createAll(dto.getParticipants()));
+    }
+
+    /**
+     * 파일의 참여자들을 일괄로 생성합니다.
+     * 올바른 행만 저장하고 실패한 행은 줄 번호와 함께 결과에 포함합니다.
+     *
+     * @param file 가져올 파일 (CSV는 name, season, position, phone 헤더 필요)
+     * @param format 파일 형식 ("ndjson" 또는 "csv", 선택 사항이며 없으면 파일 확장자로 판단)
+     * @return 가져오기 결과
+     * @throws IOException 업로드된 파일을 읽을 수 없는 경우
+     */
+    @SqlBudget(statements = 10_000, jdbcMillis = 60_000)
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportDto.Result> importParticipants(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(value = "format", required = false) String format) throws IOException {
+        FileFormat importFormat = FileFormat.of(format, file.getOriginalFilename());
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(importService.importParticipants(in, importFormat));
+        }
+    }
+
     /**
      * 기존 참여자를 수정합니다.
      *
@@ -62,7 +266,7 @@ public class ParticipantController {
      */
     @PatchMapping("/{id}")
     public ResponseEntity<ParticipantDto.Response> update(
-            @PathVariable("id") String id,
+            @PathVariable("id") UUID id,
             @RequestBody ParticipantDto.Update dto) {
         return ResponseEntity.ok(participantService.update(id, dto));
     }
@@ -74,8 +278,20 @@ public class ParticipantController {
      * @return 내용 없음 응답
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable("id") String id) {
+    public ResponseEntity<Void> delete(@PathVariable("id") UUID id) {
         participantService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 여러 참여자를 한 번에 삭제합니다.
+     *
+     * @param dto 삭제할 참여자 ID 목록
+     * @return 내용 없음 응답
+     */
+    @PostMapping("/batch-delete")
+    public ResponseEntity<Void> deleteAll(@Valid @RequestBody ParticipantDto.BatchDelete dto) {
+        participantService.deleteAll(dto.getIds());
+        return ResponseEntity.noContent().build();
+    }
 }
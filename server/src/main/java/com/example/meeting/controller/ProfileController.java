@@ -1,12 +1,23 @@
 package com.example.meeting.controller;
 
 import com.example.meeting.dto.ProfileDto;
+import com.example.meeting.service.EtagService;
 import com.example.meeting.service.ProfileService;
+import com.example.meeting.util.EtagUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 참여자 프로필 관리를 위한 REST 컨트롤러.
@@ -18,6 +29,7 @@ import org.springframework.web.bind.annotation.*;
 public class ProfileController {
 
     private final ProfileService profileService;
+    private final EtagService etagService;
 
     /**
      * 참여자를 위한 새로운 프로필을 생성합니다.
@@ -32,13 +44,18 @@ public class ProfileController {
 
     /**
      * 참여자 ID로 프로필을 조회합니다.
+     * 변경되지 않았으면 엔티티를 로딩하지 않고 304로 응답합니다.
      *
      * @param participantId 참여자 ID
+     * @param request 조건부 요청 헤더를 포함하는 요청
      * @return 프로필 상세 정보
      */
     @GetMapping("/participant/{participantId}")
-    public ResponseEntity<ProfileDto.Response> findByParticipantId(@PathVariable("participantId") String participantId) {
-        return ResponseEntity.ok(profileService.findByParticipantId(participantId));
+    public ResponseEntity<ProfileDto.Response> findByParticipantId(
+            @PathVariable("participantId") UUID participantId,
+            WebRequest request) {
+        return EtagUtil.conditional(request, etagService.profileEtag(participantId).orElse(null),
+                () -> profileService.findByParticipantId(participantId));
     }
 
     /**
@@ -50,7 +67,7 @@ public class ProfileController {
      */
     @PatchMapping("/participant/{participantId}")
     public ResponseEntity<ProfileDto.Response> update(
-            @PathVariable("participantId") String participantId,
+            @PathVariable("participantId") UUID participantId,
             @RequestBody ProfileDto.Update dto) {
         return ResponseEntity.ok(profileService.update(participantId, dto));
     }
@@ -62,8 +79,71 @@ public class ProfileController {
      * @return 내용 없음 응답
      */
     @DeleteMapping("/participant/{participantId}")
-    public ResponseEntity<Void> delete(@PathVariable("participantId") String participantId) {
+    public ResponseEntity<Void> delete(@PathVariable("participantId") UUID participantId) {
         profileService.delete(participantId);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 참여자의 프로필 이미지를 multipart 파일로 업로드합니다.
+     * 프로필이 없으면 새로 생성합니다.
+     *
+     * @param participantId 참여자 ID
+     * @param file 업로드할 이미지 파일
+     * @return 수정된 프로필
+     * @throws IOException 업로드된 파일을 읽을 수 없는 경우
+     */
+    @PutMapping(value = "/participant/{participantId}/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ProfileDto.Response> uploadImage(
+            @PathVariable("participantId") UUID participantId,
+            @RequestPart("file") MultipartFile file) throws IOException {
+        return ResponseEntity.ok(profileService.uploadImage(participantId, file.getBytes()));
+    }
+
+    /**
+     * 참여자의 프로필 이미지를 요청 본문의 바이너리로 업로드합니다.
+     * 프로필이 없으면 새로 생성합니다.
+     * 이미지 형식은 요청의 Content-Type이 아니라 바이트의 파일 시그니처로 판별합니다.
+     *
+     * @param participantId 참여자 ID
+     * @param bytes 이미지 바이트
+     * @return 수정된 프로필
+     */
+    @PutMapping(value = "/participant/{participantId}/image", consumes = "image/*")
+    public ResponseEntity<ProfileDto.Response> uploadImageBinary(
+            @PathVariable("participantId") UUID participantId,
+            @RequestBody byte[] bytes) {
+        return ResponseEntity.ok(profileService.uploadImage(participantId, bytes));
+    }
+
+    /**
+     * 저장된 프로필 이미지를 스트리밍합니다.
+     * 링크의 버전 파라미터가 현재 이미지와 일치하면 변경 불가능한 리소스로 장기 캐시됩니다.
+     * 요청한 크기의 변형이 아직 생성되지 않아 원본을 대신 제공할 때는 캐시하지 않습니다.
+     * 브라우저가 내용을 다른 형식(HTML 등)으로 추측하지 않도록 nosniff를 지정합니다.
+     *
+     * @param id 프로필 ID
+     * @param version 이미지 버전 (선택 사항)
+     * @param size 요청 크기 ("original" 또는 픽셀 수, 선택 사항)
+     * @return 이미지 바이트
+     */
+    @GetMapping("/{id}/image")
+    public ResponseEntity<Resource> findImage(
+            @PathVariable("id") UUID id,
+            @RequestParam(value = "v", required = false) String version,
+            @RequestParam(value = "size", required = false) String size) {
+        ProfileDto.Image image = profileService.findImage(id, size);
+
+        CacheControl cacheControl = image.getKey().equals(version) && !image.isProvisional()
+                ? CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable()
+                : CacheControl.noCache();
+
+        return ResponseEntity.ok()
+                .eTag(image.getEtag())
+                .cacheControl(cacheControl)
+                .header("X-Content-Type-Options", "nosniff")
+                .contentType(MediaType.parseMediaType(image.getContentType()))
+                .contentLength(image.getContentLength())
+                .body(image.getResource());
+    }
 }
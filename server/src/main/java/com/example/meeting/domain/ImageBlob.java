@@ -0,0 +1,65 @@
+package com.example.meeting.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이미지 저장소에 보관된 이미지 내용을 나타내는 엔티티.
+ * 디코딩된 바이트의 SHA-256으로 식별되므로 같은 이미지는 한 번만 저장되며,
+ * 이를 참조하는 프로필 수를 세어 더 이상 참조되지 않으면 삭제합니다.
+ */
+@Entity
+@Table(name = "image_blobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageBlob {
+
+    /**
+     * 이미지 바이트의 SHA-256 해시 (16진수)
+     * 이미지 저장소의 파일 키로도 사용됩니다
+     */
+    @Id
+    @Column(length = 64)
+    private String id;
+
+    /**
+     * 이미지의 MIME 타입
+     */
+    @Column(nullable = false)
+    private String contentType;
+
+    /**
+     * 이미지의 바이트 크기
+     */
+    @Column(nullable = false)
+    private Long size;
+
+    /**
+     * 이미지 헤더에 선언된 가로 픽셀 수 (ImageIO가 읽을 수 없는 형식이면 null)
+     */
+    private Integer width;
+
+    /**
+     * 이미지 헤더에 선언된 세로 픽셀 수 (ImageIO가 읽을 수 없는 형식이면 null)
+     */
+    private Integer height;
+
+    /**
+     * 이 이미지를 참조하는 프로필 수
+     */
+    @Column(nullable = false)
+    private Integer refCount;
+
+    /**
+     * 이미지가 처음 저장된 타임스탬프
+     */
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+}
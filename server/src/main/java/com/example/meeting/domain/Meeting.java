@@ -2,12 +2,15 @@ package com.example.meeting.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * 시스템의 모임을 나타내는 엔티티.
@@ -23,11 +26,11 @@ import java.util.List;
 public class Meeting {
 
     /**
-     * 모임의 고유 식별자 (UUID)
+     * 모임의 고유 식별자 (시간 순 UUID)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    @TimeOrderedId
+    private UUID id;
 
     /**
      * 모임의 제목
@@ -68,15 +71,26 @@ public class Meeting {
     private LocalDateTime updatedAt;
 
     /**
-     * 이 모임에 참석하는 참여자 목록 (다대다 관계)
+     * 낙관적 잠금과 조건부 조회(ETag)를 위한 모임 버전
+     * 기존 행은 0으로 시작합니다
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
+    /**
+     * 이 모임에 참석하는 참여자 집합 (다대다 관계)
      * 조인 테이블 "meeting_participants"가 관계를 관리합니다
+     * Set으로 매핑하여 참여자 변경 시 전체 행을 다시 쓰지 않고 변경된 행만 추가/삭제합니다
+     * 참여자 ID 목록은 2차 캐시에 보관되며, 참여자는 참여자 캐시에서 가져옵니다
      */
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "meeting-participants")
     @JoinTable(
             name = "meeting_participants",
             joinColumns = @JoinColumn(name = "meeting_id"),
             inverseJoinColumns = @JoinColumn(name = "participant_id")
     )
     @Builder.Default
-    private List<Participant> participants = new ArrayList<>();
+    private Set<Participant> participants = new LinkedHashSet<>();
 }
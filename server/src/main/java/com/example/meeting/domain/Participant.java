@@ -1,20 +1,28 @@
 package com.example.meeting.domain;
 
+import com.example.meeting.util.SeasonUtil;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * 모임 시스템의 참여자를 나타내는 엔티티.
  * 참여자는 하나의 프로필을 가질 수 있으며 여러 모임에 참여할 수 있습니다.
+ * 여러 모임에서 반복해서 참조되므로 2차 캐시에 보관됩니다.
  */
 @Entity
 @Table(name = "participants")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "participant")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,11 +31,11 @@ import java.util.List;
 public class Participant {
 
     /**
-     * 참여자의 고유 식별자 (UUID)
+     * 참여자의 고유 식별자 (시간 순 UUID)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    @TimeOrderedId
+    private UUID id;
 
     /**
      * 참여자의 이름
@@ -47,6 +55,14 @@ public class Participant {
     @Column(nullable = false)
     private String season;
 
+    /**
+     * 기수의 자연 정렬 키
+     * 문자로 시작하는 기수가 먼저, 숫자로 시작하는 기수는 숫자 크기 순으로 정렬되도록 저장 시 계산됩니다
+     */
+    @Column(name = "season_sort_key")
+    @Setter(AccessLevel.NONE)
+    private String seasonSortKey;
+
     /**
      * 참여자의 전화번호 (고유해야 함)
      */
@@ -54,18 +70,20 @@ public class Participant {
     private String phone;
 
     /**
-     * 이 참여자와 연관된 프로필 (일대일 관계)
+     * 이 참여자와 연관된 프로필 (일대일 관계, 프로필이 참여자 ID를 기본 키로 공유)
+     * 바이트코드 향상으로 지연 로딩되므로 프로필이 필요한 조회만 엔티티 그래프로 함께 읽습니다.
      * 모든 작업을 전파하고 고아 프로필을 제거합니다
      */
-    @OneToOne(mappedBy = "participant", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToOne(mappedBy = "participant", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @Setter(AccessLevel.NONE)
     private Profile profile;
 
     /**
-     * 이 참여자가 참여하는 모임 목록 (다대다 관계)
+     * 이 참여자가 참여하는 모임 집합 (다대다 관계)
      */
     @ManyToMany(mappedBy = "participants", fetch = FetchType.LAZY)
     @Builder.Default
-    private List<Meeting> meetings = new ArrayList<>();
+    private Set<Meeting> meetings = new LinkedHashSet<>();
 
     /**
      * 참여자가 생성된 타임스탬프
@@ -79,4 +97,42 @@ public class Participant {
      */
     @UpdateTimestamp
     private LocalDateTime updatedAt;
+
+    /**
+     * 낙관적 잠금과 조건부 조회(ETag)를 위한 참여자 버전
+     * 기존 행은 0으로 시작합니다
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
+    /**
+     * 프로필이 이미 로딩되었는지 확인합니다. 확인만 하며 프로필을 조회하지 않습니다.
+     *
+     * @return 프로필 속성이 초기화되었으면 true
+     */
+    public boolean isProfileLoaded() {
+        return Hibernate.isPropertyInitialized(this, "profile");
+    }
+
+    /**
+     * 이 참여자의 프로필을 교체하고 프로필 쪽 연관관계도 함께 설정합니다. 기존 프로필은 고아로 제거됩니다.
+     *
+     * @param profile 새 프로필 (null이면 프로필 제거)
+     */
+    public void setProfile(Profile profile) {
+        if (profile != null) {
+            profile.setParticipant(this);
+        }
+        this.profile = profile;
+    }
+
+    /**
+     * 저장 전에 기수 정렬 키를 다시 계산합니다.
+     */
+    @PrePersist
+    @PreUpdate
+    private void updateSeasonSortKey() {
+        seasonSortKey = SeasonUtil.sortKey(season);
+    }
 }
@@ -3,14 +3,23 @@ package com.example.meeting.domain;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * 참여자의 프로필을 나타내는 엔티티.
  * 프로필 이미지 URL과 같은 추가 정보를 포함합니다.
  * 각 프로필은 정확히 한 명의 참여자와 연관됩니다 (일대일 관계).
+ * 참여자 ID를 기본 키로 공유하므로 참여자 ID만으로 2차 캐시에서 프로필을 찾을 수 있습니다.
  */
 @Entity
 @Table(name = "profiles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "profile")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,25 +28,55 @@ import lombok.*;
 public class Profile {
 
     /**
-     * 프로필의 고유 식별자 (UUID)
+     * 프로필의 고유 식별자 (참여자 ID와 같음)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    private UUID id;
 
     /**
-     * 참여자의 프로필 이미지 URL
-     * 긴 URL을 수용하기 위해 TEXT로 저장됩니다
+     * 외부 프로필 이미지 URL
+     * 업로드된 이미지는 이미지 저장소에 보관되며 이 컬럼에는 외부 링크만 저장됩니다
      */
     @Column(columnDefinition = "TEXT")
     private String imageUrl;
 
+    /**
+     * 이미지 저장소에 보관된 프로필 이미지의 키
+     */
+    private String imageKey;
+
+    /**
+     * 저장된 프로필 이미지의 MIME 타입
+     */
+    private String imageContentType;
+
+    /**
+     * 저장된 프로필 이미지의 바이트 크기
+     */
+    private Long imageSize;
+
     /**
      * 이 프로필이 속한 참여자 (일대일 관계)
+     * participant_id 열이 기본 키이자 외래 키이며, 프로필의 ID는 저장 시 참여자 ID로 채워집니다
      * JsonIgnore는 직렬화 중 순환 참조를 방지합니다
      */
-    @OneToOne
-    @JoinColumn(name = "participant_id", unique = true)
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "participant_id")
     @JsonIgnore
     private Participant participant;
+
+    /**
+     * 프로필이 마지막으로 수정된 타임스탬프
+     */
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    /**
+     * 낙관적 잠금과 조건부 조회(ETag)를 위한 프로필 버전
+     * 기존 행은 0으로 시작합니다
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
 }
@@ -0,0 +1,18 @@
+package com.example.meeting.domain;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 식별자를 시간 순으로 정렬되는 UUID 버전 7로 생성하도록 지정합니다.
+ * 식별자는 16바이트 네이티브 uuid 컬럼에 저장되며, 기존 무작위 UUID와 같은 컬럼에 함께 보관할 수 있습니다.
+ */
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,55 @@
+package com.example.meeting.dto;
+
+import lombok.*;
+
+/**
+ * 캐시 상태 조회를 위한 데이터 전송 객체.
+ */
+public class CacheDto {
+
+    /**
+     * 캐시별 통계 응답 DTO.
+     */
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Stats {
+
+        /**
+         * 캐시 이름
+         */
+        private String name;
+
+        /**
+         * 현재 캐시에 저장된 항목 수 (추정치)
+         */
+        private long size;
+
+        /**
+         * 캐시 적중 횟수
+         */
+        private long hitCount;
+
+        /**
+         * 캐시 미스 횟수
+         */
+        private long missCount;
+
+        /**
+         * 캐시 적중률 (0.0 ~ 1.0)
+         */
+        private double hitRate;
+
+        /**
+         * 용량 또는 만료로 제거된 항목 수
+         */
+        private long evictionCount;
+
+        /**
+         * 용량 초과로 제거된 항목의 가중치 합계
+         */
+        private long evictionWeight;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.meeting.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 파일 가져오기 작업을 위한 데이터 전송 객체.
+ */
+public class ImportDto {
+
+    /**
+     * 모임 참석 기록 한 행을 나타내는 DTO.
+     * 참여자는 전화번호로 식별합니다.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AttendanceRow {
+
+        /**
+         * 모임 ID (필수)
+         */
+        @NotNull(message = "모임 ID는 필수입니다")
+        private UUID meetingId;
+
+        /**
+         * 참석한 참여자의 전화번호 (필수)
+         */
+        @NotBlank(message = "연락처는 필수입니다")
+        private String phone;
+    }
+
+    /**
+     * 가져오기 결과 응답 DTO.
+     */
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+
+        /**
+         * 파일에서 읽은 데이터 행 수
+         */
+        private int total;
+
+        /**
+         * 반영된 행 수
+         */
+        private int imported;
+
+        /**
+         * 실패한 행 수
+         */
+        private int failed;
+
+        /**
+         * 행별 오류 목록 (최대 1000개, 줄 번호 순)
+         */
+        private List<RowError> errors;
+    }
+
+    /**
+     * 실패한 행의 오류 정보 DTO.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+
+        /**
+         * 파일 내 줄 번호 (1부터 시작)
+         */
+        private long line;
+
+        /**
+         * 오류 메시지
+         */
+        private String message;
+    }
+}
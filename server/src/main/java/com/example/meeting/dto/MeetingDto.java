@@ -1,12 +1,17 @@
 package com.example.meeting.dto;
 
 import com.example.meeting.domain.Meeting;
+import com.example.meeting.domain.Participant;
+import com.example.meeting.repository.MeetingRepository;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -51,7 +56,7 @@ public class MeetingDto {
         /**
          * 모임에 포함할 참여자 ID 목록 (선택 사항)
          */
-        private List<String> participantIds;
+        private List<UUID> participantIds;
     }
 
     /**
@@ -87,7 +92,39 @@ public class MeetingDto {
         /**
          * 수정할 참여자 ID 목록 (선택 사항, 기존 목록을 대체함)
          */
-        private List<String> participantIds;
+        private List<UUID> participantIds;
+    }
+
+    /**
+     * 모임 참여자 추가를 위한 DTO.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AddParticipants {
+
+        /**
+         * 모임에 추가할 참여자 ID 목록 (필수)
+         */
+        @NotEmpty(message = "참여자 ID는 필수입니다")
+        private List<UUID> participantIds;
+    }
+
+    /**
+     * 여러 모임을 한 번에 삭제하기 위한 DTO.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchDelete {
+
+        /**
+         * 삭제할 모임 ID 목록 (필수)
+         */
+        @NotEmpty(message = "모임 ID는 필수입니다")
+        private List<UUID> ids;
     }
 
     /**
@@ -104,7 +141,7 @@ public class MeetingDto {
         /**
          * 모임의 고유 식별자
          */
-        private String id;
+        private UUID id;
 
         /**
          * 모임 제목
@@ -143,11 +180,27 @@ public class MeetingDto {
 
         /**
          * Meeting 엔티티를 Response DTO로 변환합니다.
+         * 참여자의 프로필은 이미 로딩된 경우에만 포함합니다.
          *
          * @param meeting 모임 엔티티
          * @return 응답 DTO
          */
         public static Response from(Meeting meeting) {
+            return from(meeting, ParticipantDto.Response::from);
+        }
+
+        /**
+         * Meeting 엔티티를 Response DTO로 변환합니다.
+         *
+         * @param meeting 모임 엔티티
+         * @param includeProfile 참여자 프로필 포함 여부 (false이면 프로필을 조회하지 않음)
+         * @return 응답 DTO
+         */
+        public static Response from(Meeting meeting, boolean includeProfile) {
+            return from(meeting, participant -> ParticipantDto.Response.from(participant, includeProfile));
+        }
+
+        private static Response from(Meeting meeting, Function<Participant, ParticipantDto.Response> participantMapper) {
             return Response.builder()
                     .id(meeting.getId())
                     .title(meeting.getTitle())
@@ -155,11 +208,76 @@ public class MeetingDto {
                     .date(meeting.getDate())
                     .location(meeting.getLocation())
                     .participants(meeting.getParticipants().stream()
-                            .map(ParticipantDto.Response::from)
+                            .map(participantMapper)
                             .collect(Collectors.toList()))
                     .createdAt(meeting.getCreatedAt())
                     .updatedAt(meeting.getUpdatedAt())
                     .build();
         }
     }
+
+    /**
+     * 모임 목록 화면을 위한 요약 DTO.
+     * 참여자 목록 대신 참여자 수만 포함합니다.
+     */
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Summary {
+
+        /**
+         * 모임의 고유 식별자
+         */
+        private UUID id;
+
+        /**
+         * 모임 제목
+         */
+        private String title;
+
+        /**
+         * 모임 날짜 및 시간
+         */
+        private LocalDateTime date;
+
+        /**
+         * 모임 장소
+         */
+        private String location;
+
+        /**
+         * 이 모임의 참여자 수
+         */
+        private long participantCount;
+
+        /**
+         * 모임이 생성된 타임스탬프
+         */
+        private LocalDateTime createdAt;
+
+        /**
+         * 모임이 마지막으로 수정된 타임스탬프
+         */
+        private LocalDateTime updatedAt;
+
+        /**
+         * 모임 요약 프로젝션을 Summary DTO로 변환합니다.
+         *
+         * @param view 모임 요약 프로젝션
+         * @return 요약 DTO
+         */
+        public static Summary from(MeetingRepository.SummaryView view) {
+            return Summary.builder()
+                    .id(view.getId())
+                    .title(view.getTitle())
+                    .date(view.getDate())
+                    .location(view.getLocation())
+                    .participantCount(view.getParticipantCount())
+                    .createdAt(view.getCreatedAt())
+                    .updatedAt(view.getUpdatedAt())
+                    .build();
+        }
+    }
 }
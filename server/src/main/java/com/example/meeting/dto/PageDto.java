@@ -0,0 +1,103 @@
+package com.example.meeting.dto;
+
+import com.example.meeting.util.PageUtil;
+import lombok.*;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 목록 조회의 페이지 응답을 위한 데이터 전송 객체.
+ */
+public class PageDto {
+
+    /**
+     * 한 페이지 분량의 목록과 다음 페이지 정보를 담는 응답 DTO.
+     * 전체 개수는 계산하지 않으므로 목록 크기와 관계없이 일정한 비용으로 조회됩니다.
+     *
+     * @param <T> 목록 항목 타입
+     */
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response<T> {
+
+        /**
+         * 현재 페이지의 항목 목록
+         */
+        private List<T> content;
+
+        /**
+         * 현재 페이지 번호 (커서로 조회한 경우 null)
+         */
+        private Integer page;
+
+        /**
+         * 요청한 페이지 크기
+         */
+        private int size;
+
+        /**
+         * 다음 페이지가 존재하는지 여부
+         */
+        private boolean hasNext;
+
+        /**
+         * 다음 페이지를 조회하기 위한 커서 (다음 페이지가 없으면 null)
+         */
+        private String nextCursor;
+
+        /**
+         * 커서를 지원하지 않는 정렬의 엔티티 슬라이스를 페이지 응답 DTO로 변환합니다.
+         *
+         * @param slice 엔티티 슬라이스
+         * @param page 요청한 페이지 번호
+         * @param mapper 엔티티를 응답 DTO로 변환하는 함수
+         * @return 페이지 응답 DTO (nextCursor는 항상 null)
+         */
+        public static <E, T> Response<T> from(Slice<E> slice, Integer page, Function<E, T> mapper) {
+            return Response.<T>builder()
+                    .content(slice.getContent().stream().map(mapper).toList())
+                    .page(page)
+                    .size(slice.getSize())
+                    .hasNext(slice.hasNext())
+                    .build();
+        }
+
+        /**
+         * 엔티티 슬라이스를 페이지 응답 DTO로 변환합니다.
+         *
+         * @param slice 엔티티 슬라이스
+         * @param page 요청한 페이지 번호 (커서로 조회한 경우 null)
+         * @param mapper 엔티티를 응답 DTO로 변환하는 함수
+         * @param updatedAtOf 엔티티의 수정 시각 접근자
+         * @param idOf 엔티티의 ID 접근자
+         * @return 페이지 응답 DTO
+         */
+        public static <E, T> Response<T> from(Slice<E> slice,
+                                              Integer page,
+                                              Function<E, T> mapper,
+                                              Function<E, LocalDateTime> updatedAtOf,
+                                              Function<E, UUID> idOf) {
+            List<E> content = slice.getContent();
+            String nextCursor = null;
+            if (slice.hasNext() && !content.isEmpty()) {
+                E last = content.get(content.size() - 1);
+                nextCursor = PageUtil.encodeCursor(updatedAtOf.apply(last), idOf.apply(last));
+            }
+
+            return Response.<T>builder()
+                    .content(content.stream().map(mapper).toList())
+                    .page(page)
+                    .size(slice.getSize())
+                    .hasNext(slice.hasNext())
+                    .nextCursor(nextCursor)
+                    .build();
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.example.meeting.dto;
 
 import com.example.meeting.domain.Participant;
+import com.example.meeting.repository.ParticipantRepository;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * Participant 작업을 위한 데이터 전송 객체.
@@ -46,6 +51,39 @@ public class ParticipantDto {
         private String phone;
     }
 
+    /**
+     * 여러 참여자를 한 번에 생성하기 위한 DTO.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchCreate {
+
+        /**
+         * 생성할 참여자 목록 (필수)
+         */
+        @Valid
+        @NotEmpty(message = "참여자 목록은 필수입니다")
+        private List<Create> participants;
+    }
+
+    /**
+     * 여러 참여자를 한 번에 삭제하기 위한 DTO.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchDelete {
+
+        /**
+         * 삭제할 참여자 ID 목록 (필수)
+         */
+        @NotEmpty(message = "참여자 ID는 필수입니다")
+        private List<UUID> ids;
+    }
+
     /**
      * 기존 참여자 수정을 위한 DTO.
      * 모든 필드는 선택 사항입니다.
@@ -91,7 +129,7 @@ public class ParticipantDto {
         /**
          * 참여자의 고유 식별자
          */
-        private String id;
+        private UUID id;
 
         /**
          * 참여자의 이름
@@ -114,7 +152,7 @@ public class ParticipantDto {
         private String phone;
 
         /**
-         * 관련 프로필 정보
+         * 관련 프로필 정보 (include=profile로 요청한 경우에만 포함)
          */
         private ProfileDto.Response profile;
 
@@ -130,22 +168,127 @@ public class ParticipantDto {
 
         /**
          * Participant 엔티티를 Response DTO로 변환합니다.
+         * 프로필은 이미 로딩된 경우에만 포함하며, 변환을 위해 프로필을 조회하지 않습니다.
          *
          * @param participant 참여자 엔티티
          * @return 응답 DTO
          */
         public static Response from(Participant participant) {
+            return from(participant, participant.isProfileLoaded());
+        }
+
+        /**
+         * Participant 엔티티를 Response DTO로 변환합니다.
+         *
+         * @param participant 참여자 엔티티
+         * @param includeProfile 프로필 포함 여부 (false이면 프로필을 조회하지 않고 profile을 비워 둠)
+         * @return 응답 DTO
+         */
+        public static Response from(Participant participant, boolean includeProfile) {
             return Response.builder()
                     .id(participant.getId())
                     .name(participant.getName())
                     .position(participant.getPosition())
                     .season(participant.getSeason())
                     .phone(participant.getPhone())
-                    .profile(participant.getProfile() != null ?
+                    .profile(includeProfile && participant.getProfile() != null ?
                             ProfileDto.Response.from(participant.getProfile()) : null)
                     .createdAt(participant.getCreatedAt())
                     .updatedAt(participant.getUpdatedAt())
                     .build();
         }
     }
+
+    /**
+     * 참여자 목록 화면을 위한 요약 DTO.
+     * 프로필 대신 프로필 이미지 URL만 포함합니다.
+     */
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Summary {
+
+        /**
+         * 참여자의 고유 식별자
+         */
+        private UUID id;
+
+        /**
+         * 참여자의 이름
+         */
+        private String name;
+
+        /**
+         * 참여자의 직함
+         */
+        private String position;
+
+        /**
+         * 참여자의 기수 또는 코호트
+         */
+        private String season;
+
+        /**
+         * 참여자의 전화번호
+         */
+        private String phone;
+
+        /**
+         * 프로필 이미지의 URL (프로필이 없으면 null)
+         */
+        private String imageUrl;
+
+        /**
+         * 참여자 요약 프로젝션을 Summary DTO로 변환합니다.
+         *
+         * @param view 참여자 요약 프로젝션
+         * @return 요약 DTO
+         */
+        public static Summary from(ParticipantRepository.SummaryView view) {
+            return Summary.builder()
+                    .id(view.getId())
+                    .name(view.getName())
+                    .position(view.getPosition())
+                    .season(view.getSeason())
+                    .phone(view.getPhone())
+                    .imageUrl(view.getImageKey() != null
+                            ? ProfileDto.Response.imageLink(view.getProfileId(), view.getImageKey())
+                            : view.getImageUrl())
+                    .build();
+        }
+    }
+
+    /**
+     * 기수별 참여자 그룹 응답 DTO.
+     * 그룹의 첫 페이지만 포함하며, 나머지는 기수별 페이지 조회로 이어서 받습니다.
+     */
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SeasonGroup {
+
+        /**
+         * 기수
+         */
+        private String season;
+
+        /**
+         * 기수에 속한 전체 참여자 수
+         */
+        private long count;
+
+        /**
+         * 이름 순으로 정렬된 그룹의 첫 페이지 참여자 목록
+         */
+        private List<Response> participants;
+
+        /**
+         * 첫 페이지 이후에 참여자가 더 있는지 여부
+         */
+        private boolean hasNext;
+    }
 }
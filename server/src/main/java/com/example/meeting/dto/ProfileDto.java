@@ -1,8 +1,11 @@
 package com.example.meeting.dto;
 
 import com.example.meeting.domain.Profile;
-import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.springframework.core.io.Resource;
+
+import java.util.UUID;
 
 /**
  * Profile 작업을 위한 데이터 전송 객체.
@@ -20,15 +23,16 @@ public class ProfileDto {
     public static class Create {
 
         /**
-         * 프로필 이미지의 URL (선택 사항)
+         * 프로필 이미지의 URL 또는 base64 data URL (선택 사항)
+         * data URL은 디코딩되어 이미지 저장소에 보관됩니다
          */
         private String imageUrl;
 
         /**
          * 이 프로필이 속한 참여자의 ID (필수)
          */
-        @NotBlank(message = "참여자 ID는 필수입니다")
-        private String participantId;
+        @NotNull(message = "참여자 ID는 필수입니다")
+        private UUID participantId;
     }
 
     /**
@@ -42,7 +46,7 @@ public class ProfileDto {
     public static class Update {
 
         /**
-         * 수정할 프로필 이미지 URL (선택 사항)
+         * 수정할 프로필 이미지 URL 또는 base64 data URL (선택 사항)
          */
         private String imageUrl;
     }
@@ -60,17 +64,18 @@ public class ProfileDto {
         /**
          * 프로필의 고유 식별자
          */
-        private String id;
+        private UUID id;
 
         /**
          * 프로필 이미지의 URL
+         * 업로드된 이미지는 /profiles/{id}/image 링크로 제공됩니다
          */
         private String imageUrl;
 
         /**
          * 관련 참여자의 ID
          */
-        private String participantId;
+        private UUID participantId;
 
         /**
          * Profile 엔티티를 Response DTO로 변환합니다.
@@ -81,9 +86,70 @@ public class ProfileDto {
         public static Response from(Profile profile) {
             return Response.builder()
                     .id(profile.getId())
-                    .imageUrl(profile.getImageUrl())
+                    .imageUrl(profile.getImageKey() != null ? imageLink(profile) : profile.getImageUrl())
                     .participantId(profile.getParticipant().getId())
                     .build();
         }
+
+        /**
+         * 저장된 프로필 이미지의 조회 링크를 생성합니다.
+         * 이미지 키를 버전 파라미터로 포함하므로 이미지가 바뀌면 링크도 바뀝니다.
+         *
+         * @param profile 프로필 엔티티
+         * @return 이미지 조회 링크
+         */
+        public static String imageLink(Profile profile) {
+            return imageLink(profile.getId(), profile.getImageKey());
+        }
+
+        /**
+         * 프로필 ID와 이미지 키로 저장된 프로필 이미지의 조회 링크를 생성합니다.
+         *
+         * @param profileId 프로필 ID
+         * @param imageKey 이미지 키
+         * @return 이미지 조회 링크
+         */
+        public static String imageLink(UUID profileId, String imageKey) {
+            return "/profiles/" + profileId + "/image?v=" + imageKey;
+        }
+    }
+
+    /**
+     * 저장된 프로필 이미지 스트리밍을 위한 DTO.
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class Image {
+
+        /**
+         * 이미지 바이트를 제공하는 리소스
+         */
+        private Resource resource;
+
+        /**
+         * 이미지의 MIME 타입
+         */
+        private String contentType;
+
+        /**
+         * 이미지의 바이트 크기
+         */
+        private long contentLength;
+
+        /**
+         * 원본 이미지 키 (캐시 버전으로 사용)
+         */
+        private String key;
+
+        /**
+         * 제공되는 이미지 또는 변형의 ETag 값
+         */
+        private String etag;
+
+        /**
+         * 요청한 변형이 아직 생성되지 않아 원본을 임시로 제공하는지 여부 (변형이 생성되지 않는 이미지는 false)
+         */
+        private boolean provisional;
     }
 }
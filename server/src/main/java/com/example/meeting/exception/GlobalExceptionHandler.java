@@ -1,12 +1,17 @@
 package com.example.meeting.exception;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.filter.ServerHttpObservationFilter;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -25,11 +30,14 @@ public class GlobalExceptionHandler {
      * 요청한 리소스를 찾을 수 없을 때 404 NOT FOUND 상태를 반환합니다.
      *
      * @param ex ResourceNotFoundException
+     * @param request 현재 요청
      * @return 오류 세부 정보를 포함하는 ResponseEntity
      */
     @ExceptionHandler(ResourceNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException ex) {
+    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException ex,
+                                                                         HttpServletRequest request) {
         log.error("Resource not found: {}", ex.getMessage());
+        recordError(request, ex);
 
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
@@ -46,11 +54,14 @@ public class GlobalExceptionHandler {
      * 중복 리소스를 생성하려고 시도할 때 409 CONFLICT 상태를 반환합니다.
      *
      * @param ex DuplicateResourceException
+     * @param request 현재 요청
      * @return 오류 세부 정보를 포함하는 ResponseEntity
      */
     @ExceptionHandler(DuplicateResourceException.class)
-    public ResponseEntity<ErrorResponse> handleDuplicateResourceException(DuplicateResourceException ex) {
+    public ResponseEntity<ErrorResponse> handleDuplicateResourceException(DuplicateResourceException ex,
+                                                                          HttpServletRequest request) {
         log.error("Duplicate resource: {}", ex.getMessage());
+        recordError(request, ex);
 
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
@@ -62,16 +73,115 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    /**
+     * OptimisticLockingFailureException을 처리합니다.
+     * 같은 리소스를 다른 요청이 먼저 수정했을 때 409 CONFLICT 상태를 반환합니다.
+     *
+     * @param ex OptimisticLockingFailureException
+     * @param request 현재 요청
+     * @return 오류 세부 정보를 포함하는 ResponseEntity
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex,
+                                                                                 HttpServletRequest request) {
+        log.error("Concurrent modification: {}", ex.getMessage());
+        recordError(request, ex);
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error(HttpStatus.CONFLICT.getReasonPhrase())
+                .message("다른 요청에 의해 이미 수정되었습니다. 다시 시도해 주세요")
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * InvalidRequestException을 처리합니다.
+     * 요청 값이 올바르지 않을 때 400 BAD REQUEST 상태를 반환합니다.
+     *
+     * @param ex InvalidRequestException
+     * @param request 현재 요청
+     * @return 오류 세부 정보를 포함하는 ResponseEntity
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequestException(InvalidRequestException ex,
+                                                                       HttpServletRequest request) {
+        log.error("Invalid request: {}", ex.getMessage());
+        recordError(request, ex);
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                .message(ex.getMessage())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * 경로 변수나 요청 파라미터의 형식 오류를 처리합니다.
+     * 형식이 올바르지 않은 ID(UUID)처럼 값을 변환할 수 없을 때 400 BAD REQUEST 상태를 반환합니다.
+     *
+     * @param ex MethodArgumentTypeMismatchException
+     * @param request 현재 요청
+     * @return 오류 세부 정보를 포함하는 ResponseEntity
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException ex,
+                                                                                   HttpServletRequest request) {
+        log.error("Invalid parameter: {}", ex.getMessage());
+        recordError(request, ex);
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                .message("요청 값의 형식이 올바르지 않습니다: " + ex.getName())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * 요청 본문을 읽을 수 없는 경우를 처리합니다.
+     * JSON 형식이 잘못되었거나 ID(UUID) 같은 필드 값을 변환할 수 없을 때 400 BAD REQUEST 상태를 반환합니다.
+     *
+     * @param ex HttpMessageNotReadableException
+     * @param request 현재 요청
+     * @return 오류 세부 정보를 포함하는 ResponseEntity
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex,
+                                                                               HttpServletRequest request) {
+        log.error("Unreadable request body: {}", ex.getMessage());
+        recordError(request, ex);
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                .message("요청 본문의 형식이 올바르지 않습니다")
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     /**
      * @Valid 어노테이션의 검증 오류를 처리합니다.
      * 필드별 오류 메시지와 함께 400 BAD REQUEST 상태를 반환합니다.
      *
      * @param ex MethodArgumentNotValidException
+     * @param request 현재 요청
      * @return 검증 오류 세부 정보를 포함하는 ResponseEntity
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ValidationErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
+    public ResponseEntity<ValidationErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex,
+                                                                              HttpServletRequest request) {
         log.error("Validation failed: {}", ex.getMessage());
+        recordError(request, ex);
 
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach((error) -> {
@@ -96,11 +206,13 @@ public class GlobalExceptionHandler {
      * 500 INTERNAL SERVER ERROR 상태를 반환합니다.
      *
      * @param ex Exception
+     * @param request 현재 요청
      * @return 오류 세부 정보를 포함하는 ResponseEntity
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ErrorResponse> handleGlobalException(Exception ex) {
+    public ResponseEntity<ErrorResponse> handleGlobalException(Exception ex, HttpServletRequest request) {
         log.error("Unexpected error occurred: ", ex);
+        recordError(request, ex);
 
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
@@ -111,4 +223,13 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
+
+    /**
+     * 처리된 예외를 요청의 관측 컨텍스트에 기록합니다.
+     * 예외 핸들러가 응답을 만들면 예외가 필터까지 전달되지 않으므로,
+     * http.server.requests 메트릭의 exception 태그에 남기려면 직접 기록해야 합니다.
+     */
+    private void recordError(HttpServletRequest request, Exception ex) {
+        ServerHttpObservationFilter.findObservationContext(request).ifPresent(context -> context.setError(ex));
+    }
 }
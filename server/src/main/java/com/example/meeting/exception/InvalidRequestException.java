@@ -0,0 +1,17 @@
+package com.example.meeting.exception;
+
+/**
+ * 요청 값이 올바르지 않을 때 발생하는 예외.
+ * HTTP 400 BAD REQUEST 응답으로 처리됩니다.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    /**
+     * 지정된 상세 메시지로 새 InvalidRequestException을 생성합니다.
+     *
+     * @param message 어떤 요청 값이 잘못되었는지 설명하는 상세 메시지
+     */
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
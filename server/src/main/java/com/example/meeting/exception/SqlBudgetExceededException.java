@@ -0,0 +1,17 @@
+package com.example.meeting.exception;
+
+/**
+ * 요청이 선언된 SQL 예산을 넘겼을 때 발생하는 예외.
+ * sql-budget.fail-on-exceed가 켜진 경우(통합 테스트)에만 필터에서 발생하며, 예외 핸들러를 거치지 않고 요청을 실패시킵니다.
+ */
+public class SqlBudgetExceededException extends RuntimeException {
+
+    /**
+     * 지정된 상세 메시지로 새 SqlBudgetExceededException을 생성합니다.
+     *
+     * @param message 어떤 요청이 예산을 얼마나 넘겼는지 설명하는 상세 메시지
+     */
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.meeting.filter;
+
+import com.example.meeting.metrics.RequestStatistics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.http.Outcome;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔드포인트별 Hibernate 작업량과 응답 크기를 기록하는 필터.
+ * 요청마다 {@link RequestStatistics}로 SQL 문 수, JDBC 시간, 엔티티 로드 수, 2차 캐시 조회를 집계하고,
+ * 응답 본문 바이트 수를 세어 요청 경로 패턴과 결과(outcome, exception) 태그로 기록합니다.
+ * 예외 태그는 GlobalExceptionHandler가 관측 컨텍스트에 남긴 예외를 사용하므로 처리된 오류 응답도 구분됩니다.
+ */
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith("/actuator") || path.startsWith("/h2-console");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestStatistics statistics = RequestStatistics.begin();
+        CountingResponse countingResponse = new CountingResponse(response);
+        Throwable error = null;
+        try {
+            chain.doFilter(request, countingResponse);
+        } catch (IOException | ServletException | RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            RequestStatistics.end();
+            record(request, countingResponse, statistics, error);
+        }
+    }
+
+    private void record(HttpServletRequest request, CountingResponse response, RequestStatistics statistics,
+                        Throwable error) {
+        int status = error != null ? HttpStatus.INTERNAL_SERVER_ERROR.value() : response.getStatus();
+        Tags tags = Tags.of(
+                "method", request.getMethod(),
+                "uri", uri(request, status),
+                "status", String.valueOf(status),
+                "outcome", Outcome.forStatus(status).name(),
+                "exception", exception(request, error));
+
+        DistributionSummary.builder("http.server.requests.db.statements")
+                .description("SQL statements executed per request")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.getStatements());
+        Timer.builder("http.server.requests.db.time")
+                .description("JDBC execution time per request")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.getJdbcNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("http.server.requests.entity.loads")
+                .description("Entities loaded by Hibernate per request")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.getEntityLoads());
+        incrementCache(tags, "hit", statistics.getCacheHits());
+        incrementCache(tags, "miss", statistics.getCacheMisses());
+        incrementCache(tags, "put", statistics.getCachePuts());
+
+        // 비동기 응답(내보내기 스트리밍)은 필터가 끝난 뒤에 본문이 쓰이므로 크기를 알 수 없음
+        if (!request.isAsyncStarted()) {
+            DistributionSummary.builder("http.server.response.size")
+                    .description("Response body size before compression")
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(64.0)
+                    .maximumExpectedValue(64.0 * 1024 * 1024)
+                    .register(meterRegistry)
+                    .record(response.getBodySize());
+        }
+    }
+
+    private void incrementCache(Tags tags, String result, int count) {
+        if (count > 0) {
+            Counter.builder("http.server.requests.second.level.cache")
+                    .description("Hibernate second-level cache accesses per endpoint")
+                    .tags(tags)
+                    .tag("result", result)
+                    .register(meterRegistry)
+                    .increment(count);
+        }
+    }
+
+    private static String uri(HttpServletRequest request, int status) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return pattern.toString();
+        }
+        return status == HttpStatus.NOT_FOUND.value() ? "NOT_FOUND" : "UNKNOWN";
+    }
+
+    private static String exception(HttpServletRequest request, Throwable error) {
+        Throwable handled = ServerHttpObservationFilter.findObservationContext(request)
+                .map(context -> context.getError())
+                .orElse(null);
+        Throwable exception = error != null ? error : handled;
+        return exception != null ? exception.getClass().getSimpleName() : "none";
+    }
+
+    /**
+     * 본문으로 쓰인 바이트 수를 세는 응답 래퍼.
+     * Writer로 쓰인 응답은 세지 않고 Content-Length 헤더가 있으면 그 값을 사용합니다.
+     */
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+
+        private CountingOutputStream outputStream;
+
+        private CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CountingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        private long getBodySize() {
+            if (outputStream != null) {
+                return outputStream.count;
+            }
+            String contentLength = getHeader(HttpHeaders.CONTENT_LENGTH);
+            return contentLength != null ? Long.parseLong(contentLength) : 0;
+        }
+    }
+
+    private static final class CountingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private long count;
+
+        private CountingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package com.example.meeting.filter;
+
+import com.example.meeting.exception.SqlBudgetExceededException;
+import com.example.meeting.metrics.RequestStatistics;
+import com.example.meeting.metrics.SqlBudget;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 요청마다 실행된 SQL 문 수와 JDBC 시간을 예산과 비교하는 필터.
+ * 예산을 넘긴 요청은 실행된 SQL과 횟수를 경고 로그로 남기며, fail-on-exceed가 켜져 있으면
+ * {@link SqlBudgetExceededException}으로 요청을 실패시켜 통합 테스트에서 N+1 회귀를 잡을 수 있습니다.
+ * 응답에는 Server-Timing 헤더(db, serialize)를 붙입니다.
+ * 헤더는 본문보다 먼저 보내야 하므로 본문을 버퍼 크기까지 모았다가 보내고,
+ * 본문이 버퍼보다 크거나 비동기로 쓰이는 응답에는 serialize 구간 없이 db 구간만 붙습니다.
+ * 버퍼를 넘겨 이미 커밋된 응답은 예산 초과로 실패시켜도 상태 코드를 바꿀 수 없으므로,
+ * fail-on-exceed가 켜져 있으면 동기 응답의 본문 전체를 모아 두었다가 예산을 확인한 뒤에 보냅니다.
+ * 비동기 응답은 예산을 확인하지 않으므로 이 경우에도 요청 스레드가 끝날 때 버퍼를 비웁니다.
+ * 집계는 {@link RequestMetricsFilter}가 시작한 {@link RequestStatistics}를 사용하므로 그 안쪽에서 실행되어야 합니다.
+ */
+@Slf4j
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private static final String SERVER_TIMING = "Server-Timing";
+    private static final int MAX_LOGGED_SQL = 20;
+
+    private final int maxStatements;
+    private final Duration maxJdbcTime;
+    private final boolean failOnExceed;
+    private final long timingBufferSize;
+
+    public SqlBudgetFilter(int maxStatements, Duration maxJdbcTime, boolean failOnExceed, int timingBufferSize) {
+        this.maxStatements = maxStatements;
+        this.maxJdbcTime = maxJdbcTime;
+        this.failOnExceed = failOnExceed;
+        this.timingBufferSize = failOnExceed ? Long.MAX_VALUE : timingBufferSize;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ServerTimingResponse timingResponse = new ServerTimingResponse(response, statistics, timingBufferSize);
+        chain.doFilter(request, timingResponse);
+
+        // 비동기 응답(내보내기 스트리밍)의 조회는 다른 스레드에서 실행되어 집계되지 않으므로 예산을 확인하지 않음
+        if (request.isAsyncStarted()) {
+            timingResponse.finish(false);
+            return;
+        }
+        checkBudget(request, statistics);
+        timingResponse.finish(true);
+    }
+
+    private void checkBudget(HttpServletRequest request, RequestStatistics statistics) {
+        SqlBudget declared = declaredBudget(request);
+        int statementBudget = declared != null ? declared.statements() : maxStatements;
+        long jdbcBudgetMillis = declared != null && declared.jdbcMillis() >= 0
+                ? declared.jdbcMillis()
+                : maxJdbcTime.toMillis();
+        long jdbcMillis = TimeUnit.NANOSECONDS.toMillis(statistics.getJdbcNanos());
+        if (statistics.getStatements() <= statementBudget && jdbcMillis <= jdbcBudgetMillis) {
+            return;
+        }
+
+        String message = String.format("%s %s executed %d statements in %d ms (budget: %d statements, %d ms)",
+                request.getMethod(), request.getRequestURI(), statistics.getStatements(), jdbcMillis,
+                statementBudget, jdbcBudgetMillis);
+        log.warn("SQL budget exceeded: {}{}", message, describeSql(statistics));
+        if (failOnExceed) {
+            throw new SqlBudgetExceededException(message);
+        }
+    }
+
+    /**
+     * 핸들러 메서드 또는 컨트롤러에 선언된 예산. 선언되지 않았으면 null을 반환합니다.
+     */
+    private static SqlBudget declaredBudget(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return null;
+        }
+        SqlBudget budget = handlerMethod.getMethodAnnotation(SqlBudget.class);
+        return budget != null
+                ? budget
+                : AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), SqlBudget.class);
+    }
+
+    /**
+     * 실행 횟수가 많은 SQL부터 나열합니다. 같은 SQL이 반복되면 N+1 조회일 가능성이 높습니다.
+     */
+    private static String describeSql(RequestStatistics statistics) {
+        List<Map.Entry<String, Integer>> entries = statistics.getSql().entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .toList();
+
+        StringBuilder description = new StringBuilder();
+        entries.stream()
+                .limit(MAX_LOGGED_SQL)
+                .forEach(entry -> description.append(System.lineSeparator())
+                        .append(String.format("%5dx ", entry.getValue()))
+                        .append(entry.getKey()));
+        int omitted = Math.max(0, entries.size() - MAX_LOGGED_SQL) + statistics.getDroppedSql();
+        if (omitted > 0) {
+            description.append(System.lineSeparator()).append("  ... ").append(omitted).append(" more");
+        }
+        return description.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Server-Timing 헤더를 붙이기 위해 본문을 버퍼 크기까지 모아 두는 응답 래퍼.
+     * 버퍼가 넘치거나 요청이 끝나면 헤더를 붙이고 모은 본문을 보낸 뒤, 이후의 쓰기는 그대로 전달합니다.
+     *
+     * 비동기 응답은 요청 스레드가 {@link #finish(boolean)}를 호출하는 동안 다른 스레드가 본문을 쓸 수 있으므로,
+     * 버퍼에 모으는 동안의 쓰기와 버퍼 비우기는 잠금으로 직렬화합니다.
+     * 버퍼를 모두 보낸 뒤에는 잠금 없이 바로 전달하며, 쓰는 스레드가 그 시점을 보도록 flushed는 volatile입니다.
+     * 가상 스레드에서 실행되므로 I/O를 감싸는 잠금은 synchronized 대신 ReentrantLock을 사용합니다.
+     */
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestStatistics statistics;
+        private final long bufferSize;
+        private final Lock lock = new ReentrantLock();
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+        private ServletOutputStream outputStream;
+        private boolean headerWritten;
+        private volatile boolean flushed;
+
+        private ServerTimingResponse(HttpServletResponse response, RequestStatistics statistics, long bufferSize) {
+            super(response);
+            this.statistics = statistics;
+            this.bufferSize = bufferSize;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new BufferingOutputStream();
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            finish(false);
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            // 버퍼에 모으는 동안에는 응답을 커밋하지 않음
+            if (flushed) {
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public void resetBuffer() {
+            lock.lock();
+            try {
+                buffer.reset();
+                super.resetBuffer();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void reset() {
+            lock.lock();
+            try {
+                buffer.reset();
+                super.reset();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 헤더를 붙이고 모아 둔 본문을 응답으로 보냅니다. 이후의 쓰기는 버퍼를 거치지 않습니다.
+         *
+         * @param complete 본문을 모두 모았는지 여부. 모두 모았을 때만 serialize 구간을 붙입니다.
+         */
+        private void finish(boolean complete) throws IOException {
+            if (flushed) {
+                return;
+            }
+            lock.lock();
+            try {
+                flushLocked(complete);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 잠금을 잡은 상태에서 호출합니다.
+         */
+        private void flushLocked(boolean complete) throws IOException {
+            if (flushed) {
+                return;
+            }
+            writeHeader(complete);
+            if (buffer.size() > 0) {
+                buffer.writeTo(responseStream());
+                buffer.reset();
+            }
+            flushed = true;
+        }
+
+        private ServletOutputStream responseStream() throws IOException {
+            return super.getOutputStream();
+        }
+
+        private void writeHeader(boolean complete) {
+            if (headerWritten) {
+                return;
+            }
+            headerWritten = true;
+            if (isCommitted()) {
+                return;
+            }
+            StringBuilder value = new StringBuilder()
+                    .append("db;dur=").append(millis(statistics.getJdbcNanos()))
+                    .append(";desc=\"").append(statistics.getStatements()).append(" statements\"");
+            if (complete && statistics.getSerializeStart() > 0) {
+                value.append(", serialize;dur=").append(millis(System.nanoTime() - statistics.getSerializeStart()));
+            }
+            addHeader(SERVER_TIMING, value.toString());
+        }
+
+        private final class BufferingOutputStream extends ServletOutputStream {
+
+            @Override
+            public void write(int b) throws IOException {
+                if (!flushed) {
+                    lock.lock();
+                    try {
+                        if (fits(1)) {
+                            buffer.write(b);
+                            return;
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+                responseStream().write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                if (!flushed) {
+                    lock.lock();
+                    try {
+                        if (fits(len)) {
+                            buffer.write(b, off, len);
+                            return;
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+                responseStream().write(b, off, len);
+            }
+
+            /**
+             * 잠금을 잡은 상태에서 호출합니다. 버퍼에 여유가 있으면 true를 반환하고,
+             * 넘치면 모아 둔 본문을 먼저 보낸 뒤 false를 반환하므로 호출한 쪽이 이어서 응답에 바로 씁니다.
+             */
+            private boolean fits(int len) throws IOException {
+                if (flushed) {
+                    return false;
+                }
+                if (buffer.size() + (long) len > bufferSize) {
+                    flushLocked(false);
+                    return false;
+                }
+                return true;
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (flushed) {
+                    responseStream().flush();
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (flushed) {
+                    responseStream().close();
+                }
+            }
+
+            @Override
+            public boolean isReady() {
+                try {
+                    return !flushed || responseStream().isReady();
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                try {
+                    responseStream().setWriteListener(writeListener);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+}
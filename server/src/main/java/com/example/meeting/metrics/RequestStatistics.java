@@ -0,0 +1,131 @@
+package com.example.meeting.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 하나에서 발생한 Hibernate 작업 통계.
+ * 요청을 처리하는 스레드에 묶여 있으며, 요청 밖(시작 시 마이그레이션, 백그라운드 작업)에서는 집계되지 않습니다.
+ * Hibernate의 전역 통계는 모든 요청이 합산되므로 엔드포인트별 비용을 구분하기 위해 따로 집계합니다.
+ */
+public class RequestStatistics {
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 요청마다 보관하는 서로 다른 SQL 문의 최대 개수. 넘치는 SQL은 횟수만 집계됩니다.
+     */
+    private static final int MAX_DISTINCT_SQL = 100;
+
+    private int statements;
+    private long jdbcNanos;
+    private int entityLoads;
+    private int cacheHits;
+    private int cacheMisses;
+    private int cachePuts;
+    private final Map<String, Integer> sql = new LinkedHashMap<>();
+    private int droppedSql;
+    private long serializeStart;
+
+    /**
+     * 현재 스레드에서 새 요청의 집계를 시작합니다.
+     */
+    public static RequestStatistics begin() {
+        RequestStatistics statistics = new RequestStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * 현재 스레드의 집계를 끝냅니다.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 스레드에서 집계 중인 통계. 요청 밖이면 null입니다.
+     */
+    public static RequestStatistics current() {
+        return CURRENT.get();
+    }
+
+    void statementExecuted(long nanos) {
+        statements++;
+        jdbcNanos += nanos;
+    }
+
+    void entityLoaded() {
+        entityLoads++;
+    }
+
+    void cacheGet(boolean hit) {
+        if (hit) {
+            cacheHits++;
+        } else {
+            cacheMisses++;
+        }
+    }
+
+    void cachePut() {
+        cachePuts++;
+    }
+
+    void sqlPrepared(String statement) {
+        if (sql.containsKey(statement) || sql.size() < MAX_DISTINCT_SQL) {
+            sql.merge(statement, 1, Integer::sum);
+        } else {
+            droppedSql++;
+        }
+    }
+
+    /**
+     * 컨트롤러가 반환한 응답 본문의 직렬화가 시작되는 시점을 기록합니다.
+     */
+    public void serializationStarted() {
+        serializeStart = System.nanoTime();
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    public int getCacheHits() {
+        return cacheHits;
+    }
+
+    public int getCacheMisses() {
+        return cacheMisses;
+    }
+
+    public int getCachePuts() {
+        return cachePuts;
+    }
+
+    /**
+     * 준비된 SQL 문과 요청 안에서 준비된 횟수. 처음 준비된 순서대로 반환합니다.
+     */
+    public Map<String, Integer> getSql() {
+        return Collections.unmodifiableMap(sql);
+    }
+
+    public int getDroppedSql() {
+        return droppedSql;
+    }
+
+    /**
+     * 직렬화가 시작된 시각(System.nanoTime). 본문 없이 응답했으면 0입니다.
+     */
+    public long getSerializeStart() {
+        return serializeStart;
+    }
+}
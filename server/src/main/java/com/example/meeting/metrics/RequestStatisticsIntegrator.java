@@ -0,0 +1,34 @@
+package com.example.meeting.metrics;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * 엔티티가 로드될 때마다 현재 요청의 {@link RequestStatistics}에 기록하는 이벤트 리스너를 등록합니다.
+ * 세션 이벤트에는 엔티티 로드가 없으므로 PostLoad 이벤트를 사용합니다.
+ */
+public class RequestStatisticsIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        PostLoadEventListener listener = event -> {
+            RequestStatistics statistics = RequestStatistics.current();
+            if (statistics != null) {
+                statistics.entityLoaded();
+            }
+        };
+        sessionFactory.getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, listener);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.meeting.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * 세션에서 실행된 SQL 문과 JDBC 시간, 2차 캐시 조회를 현재 요청의 {@link RequestStatistics}에 기록하는 리스너.
+ * hibernate.session.events.auto 설정으로 세션마다 새로 만들어집니다.
+ */
+public class RequestStatisticsSessionListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics != null) {
+            statistics.statementExecuted(System.nanoTime() - statementStart);
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics != null) {
+            statistics.statementExecuted(System.nanoTime() - batchStart);
+        }
+    }
+
+    @Override
+    public void cacheGetEnd(boolean hit) {
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics != null) {
+            statistics.cacheGet(hit);
+        }
+    }
+
+    @Override
+    public void cachePutEnd() {
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics != null) {
+            statistics.cachePut();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.meeting.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드(또는 컨트롤러 전체)가 요청 하나에서 실행할 수 있는 SQL 예산.
+ * 지정하지 않은 엔드포인트에는 sql-budget 설정의 기본 예산이 적용됩니다.
+ * 예산을 넘기면 실행된 SQL과 함께 경고 로그를 남기고, sql-budget.fail-on-exceed가 켜져 있으면 요청을 실패시킵니다.
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+
+    /**
+     * 허용되는 SQL 문 수.
+     */
+    int statements();
+
+    /**
+     * 허용되는 JDBC 실행 시간(밀리초). 음수이면 기본 예산을 사용합니다.
+     */
+    long jdbcMillis() default -1;
+}
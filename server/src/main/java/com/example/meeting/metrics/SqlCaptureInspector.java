@@ -0,0 +1,20 @@
+package com.example.meeting.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 SQL 문을 현재 요청의 {@link RequestStatistics}에 기록하는 인스펙터.
+ * 예산을 넘긴 요청을 로그로 남길 때 어떤 SQL이 몇 번 실행되었는지 보여주는 데 사용합니다.
+ * SQL은 수정하지 않고 그대로 반환합니다.
+ */
+public class SqlCaptureInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics != null) {
+            statistics.sqlPrepared(sql);
+        }
+        return sql;
+    }
+}
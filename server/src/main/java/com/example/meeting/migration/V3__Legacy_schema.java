@@ -0,0 +1,141 @@
+package com.example.meeting.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Flyway 도입 이전에 ddl-auto로 만들어진 데이터베이스의 키와 열 타입을 V1의 스키마로 맞춥니다.
+ *
+ * V1은 이미 있는 테이블을 건너뛰므로, 기준선이 잡힌 이전 데이터베이스에는 다음이 남아 있습니다.
+ * <ul>
+ *     <li>기본 키 없는 meeting_participants 테이블 (이전 버전의 {@code @ManyToMany List} 매핑)</li>
+ *     <li>문자열 타입의 모임, 참여자, 프로필 ID와 이를 참조하는 열</li>
+ *     <li>별도의 id 열을 기본 키로 갖고 participant_id에 유니크 제약이 있는 profiles 테이블</li>
+ * </ul>
+ * 각 단계는 메타데이터로 이전 형태인지 확인한 뒤에만 실행되므로, V1로 새로 만든 데이터베이스에서는 아무것도 하지 않습니다.
+ *
+ * 참조하는 열과 참조되는 열의 타입이 잠시라도 달라지지 않도록 외래 키를 먼저 제거하고, 모든 변경을 마친 뒤
+ * V1과 같은 이름으로 다시 추가합니다. 이전 버전의 ddl-auto가 만든 제약은 이름이 다르므로 메타데이터에서 찾아 제거합니다.
+ */
+public class V3__Legacy_schema extends BaseJavaMigration {
+
+    /**
+     * uuid 타입으로 바꿀 (테이블, 열) 목록. profiles.id는 아래에서 삭제하므로 변환하지 않습니다.
+     */
+    private static final String[][] ID_COLUMNS = {
+            {"meeting_participants", "meeting_id"},
+            {"meeting_participants", "participant_id"},
+            {"profiles", "participant_id"},
+            {"meetings", "id"},
+            {"participants", "id"},
+    };
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            if (!hasPrimaryKey(connection, "MEETING_PARTICIPANTS")) {
+                statement.execute("delete from meeting_participants a where exists ("
+                        + "select 1 from meeting_participants b "
+                        + "where b.meeting_id = a.meeting_id and b.participant_id = a.participant_id "
+                        + "and b._rowid_ < a._rowid_)");
+                statement.execute("alter table meeting_participants "
+                        + "add constraint pk_meeting_participants primary key (meeting_id, participant_id)");
+            }
+
+            boolean stringIds = !"UUID".equalsIgnoreCase(columnType(connection, "PARTICIPANTS", "ID"));
+            boolean profileIdColumn = columnType(connection, "PROFILES", "ID") != null;
+            if (!stringIds && !profileIdColumn) {
+                return;
+            }
+
+            if (stringIds) {
+                dropForeignKeys(statement, connection, "MEETING_PARTICIPANTS");
+            }
+            dropForeignKeys(statement, connection, "PROFILES");
+
+            if (profileIdColumn) {
+                for (String constraint : keyConstraints(connection, "PROFILES")) {
+                    statement.execute("alter table profiles drop constraint \"" + constraint + "\"");
+                }
+                statement.execute("drop index if exists uk_profiles_participant_id");
+                // 참여자가 없는 프로필은 조회할 방법이 없으므로 삭제
+                statement.execute("delete from profiles where participant_id is null");
+                statement.execute("alter table profiles alter column participant_id set not null");
+                statement.execute("alter table profiles drop column id");
+            }
+
+            if (stringIds) {
+                for (String[] column : ID_COLUMNS) {
+                    statement.execute("alter table " + column[0] + " alter column " + column[1]
+                            + " set data type uuid");
+                }
+                statement.execute("alter table meeting_participants add constraint fk_meeting_participants_meeting "
+                        + "foreign key (meeting_id) references meetings (id)");
+                statement.execute("alter table meeting_participants add constraint fk_meeting_participants_participant "
+                        + "foreign key (participant_id) references participants (id)");
+            }
+
+            if (profileIdColumn) {
+                statement.execute("alter table profiles add constraint pk_profiles primary key (participant_id)");
+            }
+            statement.execute("alter table profiles add constraint fk_profiles_participant "
+                    + "foreign key (participant_id) references participants (id)");
+        }
+    }
+
+    private void dropForeignKeys(Statement statement, Connection connection, String table) throws SQLException {
+        for (String constraint : foreignKeys(connection, table)) {
+            statement.execute("alter table " + table + " drop constraint \"" + constraint + "\"");
+        }
+    }
+
+    /**
+     * 열의 타입 이름을 반환합니다. 열이 없으면 null입니다.
+     */
+    private String columnType(Connection connection, String table, String column) throws SQLException {
+        try (ResultSet columns = connection.getMetaData().getColumns(null, connection.getSchema(), table, column)) {
+            return columns.next() ? columns.getString("TYPE_NAME") : null;
+        }
+    }
+
+    private boolean hasPrimaryKey(Connection connection, String table) throws SQLException {
+        try (ResultSet keys = connection.getMetaData().getPrimaryKeys(null, connection.getSchema(), table)) {
+            return keys.next();
+        }
+    }
+
+    private Set<String> foreignKeys(Connection connection, String table) throws SQLException {
+        Set<String> names = new LinkedHashSet<>();
+        try (ResultSet keys = connection.getMetaData().getImportedKeys(null, connection.getSchema(), table)) {
+            while (keys.next()) {
+                names.add(keys.getString("FK_NAME"));
+            }
+        }
+        return names;
+    }
+
+    private Set<String> keyConstraints(Connection connection, String table) throws SQLException {
+        Set<String> names = new LinkedHashSet<>();
+        try (PreparedStatement query = connection.prepareStatement("select constraint_name "
+                + "from information_schema.table_constraints "
+                + "where table_schema = ? and table_name = ? and constraint_type in ('PRIMARY KEY', 'UNIQUE')")) {
+            query.setString(1, connection.getSchema());
+            query.setString(2, table);
+            try (ResultSet constraints = query.executeQuery()) {
+                while (constraints.next()) {
+                    names.add(constraints.getString("CONSTRAINT_NAME"));
+                }
+            }
+        }
+        return names;
+    }
+}
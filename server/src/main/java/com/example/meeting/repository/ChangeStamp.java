@@ -0,0 +1,14 @@
+package com.example.meeting.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테이블 변경 여부를 판단하기 위한 집계 프로젝션.
+ * 행이 추가/삭제되면 행 수가, 수정되면 마지막 수정 시각이 바뀝니다.
+ */
+public interface ChangeStamp {
+
+    long getCount();
+
+    LocalDateTime getLastUpdatedAt();
+}
@@ -0,0 +1,99 @@
+package com.example.meeting.repository;
+
+import com.example.meeting.domain.ImageBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ImageBlob 엔티티를 위한 레포지토리 인터페이스.
+ * 이미지 내용의 참조 카운트를 원자적으로 변경하는 메서드를 제공합니다.
+ */
+@Repository
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, String> {
+
+    /**
+     * 이미지의 참조 카운트를 1 증가시킵니다.
+     *
+     * @param id 이미지 해시
+     * @return 변경된 행 수 (이미지가 없으면 0)
+     */
+    @Modifying
+    @Query("update ImageBlob b set b.refCount = b.refCount + 1 where b.id = :id")
+    int incrementRefCount(@Param("id") String id);
+
+    /**
+     * 참조 카운트가 0인 이미지 행을 추가합니다.
+     * 같은 해시의 행이 이미 있으면 기본 키 제약 조건 위반으로 실패합니다.
+     *
+     * @param id 이미지 해시
+     * @param contentType 이미지 MIME 타입
+     * @param size 이미지 바이트 크기
+     * @param width 가로 픽셀 수 (알 수 없으면 null)
+     * @param height 세로 픽셀 수 (알 수 없으면 null)
+     * @return 추가된 행 수
+     */
+    @Modifying
+    @Query(value = "insert into image_blobs (id, content_type, size, width, height, ref_count, created_at) "
+            + "values (:id, :contentType, :size, :width, :height, 0, current_timestamp)", nativeQuery = true)
+    int insertUnreferenced(@Param("id") String id, @Param("contentType") String contentType,
+                           @Param("size") long size, @Param("width") Integer width,
+                           @Param("height") Integer height);
+
+    /**
+     * 이미지의 참조 카운트를 1 감소시킵니다.
+     *
+     * @param id 이미지 해시
+     * @return 변경된 행 수 (이미지가 없으면 0)
+     */
+    @Modifying
+    @Query("update ImageBlob b set b.refCount = b.refCount - 1 where b.id = :id")
+    int decrementRefCount(@Param("id") String id);
+
+    /**
+     * 영속성 컨텍스트를 거치지 않고 이미지의 현재 참조 카운트를 조회합니다.
+     *
+     * @param id 이미지 해시
+     * @return 이미지가 있으면 참조 카운트를 포함하는 Optional
+     */
+    @Query("select b.refCount from ImageBlob b where b.id = :id")
+    Optional<Integer> findRefCountById(@Param("id") String id);
+
+    /**
+     * 주어진 시각 이전에 저장되었고 현재 참조되지 않는 이미지 해시를 조회합니다.
+     *
+     * @param before 기준 시각
+     * @return 이미지 해시 목록
+     */
+    @Query("select b.id from ImageBlob b where b.refCount <= 0 and b.createdAt < :before")
+    List<String> findUnreferencedIdsCreatedBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * 이미지 행을 쓰기 잠금과 함께 조회합니다.
+     * 잠금은 트랜잭션이 끝날 때까지 유지되어 같은 이미지의 참조 카운트 변경을 기다리게 합니다.
+     *
+     * @param id 이미지 해시
+     * @return 이미지를 포함하는 Optional (찾은 경우)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from ImageBlob b where b.id = :id")
+    Optional<ImageBlob> findForUpdateById(@Param("id") String id);
+
+    /**
+     * 더 이상 참조되지 않는 이미지를 삭제합니다.
+     *
+     * @param id 이미지 해시
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from ImageBlob b where b.id = :id and b.refCount <= 0")
+    int deleteIfUnreferenced(@Param("id") String id);
+}
@@ -1,22 +1,318 @@
 package com.example.meeting.repository;
 
 import com.example.meeting.domain.Meeting;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Meeting 엔티티를 위한 레포지토리 인터페이스.
  * 모임 작업을 위한 데이터베이스 접근 메서드를 제공합니다.
  */
 @Repository
-public interface MeetingRepository extends JpaRepository<Meeting, String> {
+public interface MeetingRepository extends JpaRepository<Meeting, UUID> {
 
     /**
-     * 최근 수정된 순서로 모든 모임을 조회합니다.
+     * 최근 수정된 순서로 모든 모임을 참여자와 함께 조회합니다.
+     * 참여자를 페치 조인하여 한 번의 쿼리로 조회하며, 프로필은 조회하지 않습니다.
      *
      * @return updatedAt 기준 내림차순으로 정렬된 모임 목록
      */
+    @EntityGraph(attributePaths = "participants")
     List<Meeting> findAllByOrderByUpdatedAtDesc();
+
+    /**
+     * 최근 수정된 순서로 모든 모임을 참여자 및 프로필과 함께 조회합니다.
+     * 참여자와 프로필을 함께 페치 조인하여 한 번의 쿼리로 조회합니다.
+     *
+     * @return updatedAt 기준 내림차순으로 정렬된 모임 목록
+     */
+    @EntityGraph(attributePaths = {"participants", "participants.profile"})
+    List<Meeting> findAllWithProfilesByOrderByUpdatedAtDesc();
+
+    /**
+     * ID로 모임을 참여자와 함께 조회합니다.
+     *
+     * @param id 모임 ID
+     * @return 모임을 포함하는 Optional (찾은 경우)
+     */
+    @EntityGraph(attributePaths = "participants")
+    Optional<Meeting> findWithParticipantsById(UUID id);
+
+    /**
+     * ID로 모임을 참여자 및 프로필과 함께 조회합니다.
+     *
+     * @param id 모임 ID
+     * @return 모임을 포함하는 Optional (찾은 경우)
+     */
+    @EntityGraph(attributePaths = {"participants", "participants.profile"})
+    Optional<Meeting> findWithParticipantProfilesById(UUID id);
+
+    /**
+     * 주어진 ID의 모임들을 참여자와 함께 조회합니다.
+     * 페이지 조회 시 ID 페이지를 먼저 구한 뒤 이 메서드로 연관관계를 한 번에 채웁니다.
+     *
+     * @param ids 모임 ID 목록
+     * @return 모임 목록 (순서는 보장되지 않음)
+     */
+    @EntityGraph(attributePaths = "participants")
+    List<Meeting> findWithParticipantsByIdIn(Collection<UUID> ids);
+
+    /**
+     * 주어진 ID의 모임들을 참여자 및 프로필과 함께 조회합니다.
+     *
+     * @param ids 모임 ID 목록
+     * @return 모임 목록 (순서는 보장되지 않음)
+     */
+    @EntityGraph(attributePaths = {"participants", "participants.profile"})
+    List<Meeting> findWithParticipantProfilesByIdIn(Collection<UUID> ids);
+
+    /**
+     * 최근 수정된 순서로 한 페이지 분량의 모임 ID를 조회합니다.
+     * 전체 개수를 세지 않고 다음 페이지 존재 여부만 확인합니다.
+     * 컬렉션 페치 조인과 페이징을 함께 쓰면 메모리에서 페이징되므로 ID만 먼저 조회합니다.
+     *
+     * @param pageable 페이지 번호와 크기
+     * @return updatedAt, id 기준 내림차순으로 정렬된 모임 ID 슬라이스
+     */
+    @Query("select m.id from Meeting m order by m.updatedAt desc, m.id desc")
+    Slice<UUID> findIdSlice(Pageable pageable);
+
+    /**
+     * 주어진 키셋 위치 이후의 모임 ID를 최근 수정된 순서로 조회합니다.
+     * (updated_at, id) 인덱스를 따라 읽으므로 앞선 행 수와 관계없이 일정한 비용으로 조회됩니다.
+     *
+     * @param updatedAt 마지막으로 읽은 모임의 수정 시각
+     * @param id 마지막으로 읽은 모임의 ID
+     * @param pageable 페이지 크기 (페이지 번호는 0이어야 함)
+     * @return updatedAt, id 기준 내림차순으로 정렬된 모임 ID 슬라이스
+     */
+    @Query("select m.id from Meeting m "
+            + "where m.updatedAt < :updatedAt or (m.updatedAt = :updatedAt and m.id < :id) "
+            + "order by m.updatedAt desc, m.id desc")
+    Slice<UUID> findIdSliceAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                 @Param("id") UUID id,
+                                 Pageable pageable);
+
+    /**
+     * 주어진 참여자들이 속한 모임의 ID 목록을 조회합니다.
+     *
+     * @param participantIds 참여자 ID 목록
+     * @return 모임 ID 목록
+     */
+    @Query("select distinct m.id from Meeting m join m.participants p where p.id in :participantIds")
+    List<UUID> findIdsByParticipantIdIn(@Param("participantIds") Collection<UUID> participantIds);
+
+    /**
+     * 주어진 ID 중 존재하는 모임의 ID를 조회합니다.
+     *
+     * @param ids 모임 ID 목록
+     * @return 존재하는 모임 ID 목록
+     */
+    @Query("select m.id from Meeting m where m.id in :ids")
+    List<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 모임에 참여자들을 추가합니다.
+     * 존재하는 참여자 중 아직 모임에 속하지 않은 참여자에 대해서만 조인 테이블에 행을 추가합니다.
+     * 네이티브 쿼리가 변경하는 테이블을 지정하여 2차 캐시에서는 모임별 참여자 목록만 무효화되도록 합니다.
+     *
+     * @param meetingId 모임 ID
+     * @param participantIds 추가할 참여자 ID 목록
+     * @return 추가된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "meeting_participants"))
+    @Query(value = "insert into meeting_participants (meeting_id, participant_id) "
+            + "select :meetingId, p.id from participants p "
+            + "where p.id in (:participantIds) "
+            + "and not exists (select 1 from meeting_participants mp "
+            + "where mp.meeting_id = :meetingId and mp.participant_id = p.id)",
+            nativeQuery = true)
+    int addParticipants(@Param("meetingId") UUID meetingId,
+                        @Param("participantIds") Collection<UUID> participantIds);
+
+    /**
+     * 모임에서 참여자들을 제외합니다.
+     * 조인 테이블에서 해당 행만 삭제합니다.
+     *
+     * @param meetingId 모임 ID
+     * @param participantIds 제외할 참여자 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "meeting_participants"))
+    @Query(value = "delete from meeting_participants "
+            + "where meeting_id = :meetingId and participant_id in (:participantIds)",
+            nativeQuery = true)
+    int removeParticipants(@Param("meetingId") UUID meetingId,
+                           @Param("participantIds") Collection<UUID> participantIds);
+
+    /**
+     * 주어진 모임들의 모든 참여 기록을 삭제합니다.
+     *
+     * @param ids 모임 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "meeting_participants"))
+    @Query(value = "delete from meeting_participants where meeting_id in (:ids)", nativeQuery = true)
+    int deleteMeetingParticipantsByMeetingIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 주어진 ID의 모임들을 삭제합니다.
+     * 참여 기록은 미리 삭제되어 있어야 합니다.
+     *
+     * @param ids 모임 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from Meeting m where m.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 모임의 수정 시각을 갱신합니다.
+     * 조인 테이블만 변경한 경우에도 모임 목록의 정렬 순서에 반영되도록 합니다.
+     *
+     * @param id 모임 ID
+     * @param updatedAt 새 수정 시각
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("update Meeting m set m.updatedAt = :updatedAt, m.version = m.version + 1 where m.id = :id")
+    int touch(@Param("id") UUID id, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 최근 수정된 순서로 모든 모임의 요약 정보를 조회합니다.
+     * 스칼라 컬럼과 참여자 수만 조회하며 엔티티나 참여자 정보는 로딩하지 않습니다.
+     *
+     * @return updatedAt, id 기준 내림차순으로 정렬된 모임 요약 목록
+     */
+    @Query("select m.id as id, m.title as title, m.date as date, m.location as location, "
+            + "count(p.id) as participantCount, m.createdAt as createdAt, m.updatedAt as updatedAt "
+            + "from Meeting m left join m.participants p "
+            + "group by m.id, m.title, m.date, m.location, m.createdAt, m.updatedAt "
+            + "order by m.updatedAt desc, m.id desc")
+    List<SummaryView> findAllSummaries();
+
+    /**
+     * 내보내기를 위해 모든 모임과 참여자 쌍을 스트림으로 조회합니다.
+     * 스칼라 프로젝션만 조회하므로 영속성 컨텍스트에 엔티티가 쌓이지 않으며,
+     * JDBC fetch size 단위로 결과를 가져오므로 전체 결과를 메모리에 올리지 않습니다.
+     * 같은 모임의 행은 연속해서 반환되며, 참여자가 없는 모임은 참여자 컬럼이 null인 한 행으로 반환됩니다.
+     * 트랜잭션 안에서 사용하고 사용 후 닫아야 합니다.
+     *
+     * @return 모임 수정 시각 내림차순, 참여자 기수/이름 순으로 정렬된 내보내기 행 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select m.id as meetingId, m.title as title, m.desc as description, m.date as date, m.location as location, "
+            + "m.createdAt as createdAt, m.updatedAt as updatedAt, "
+            + "p.id as participantId, p.name as participantName, p.position as participantPosition, "
+            + "p.season as participantSeason "
+            + "from Meeting m left join m.participants p "
+            + "order by m.updatedAt desc, m.id desc, p.seasonSortKey, p.name, p.id")
+    Stream<ExportRow> streamExportRows();
+
+    /**
+     * 모든 모임의 행 수와 마지막 수정 시각을 조회합니다.
+     *
+     * @return 모임 테이블 변경 집계
+     */
+    @Query("select count(m) as count, max(m.updatedAt) as lastUpdatedAt from Meeting m")
+    ChangeStamp findChangeStamp();
+
+    /**
+     * 모임과 소속 참여자, 프로필의 버전 정보를 엔티티 로딩 없이 조회합니다.
+     *
+     * @param id 모임 ID
+     * @return 모임이 존재하면 버전 정보를 포함하는 Optional
+     */
+    @Query("select m.version as version, count(p) as participantCount, max(p.updatedAt) as participantsUpdatedAt, "
+            + "count(pr) as profileCount, max(pr.updatedAt) as profilesUpdatedAt "
+            + "from Meeting m left join m.participants p left join p.profile pr "
+            + "where m.id = :id group by m.id, m.version")
+    Optional<VersionView> findVersionById(@Param("id") UUID id);
+
+    /**
+     * 모임 요약 프로젝션.
+     */
+    interface SummaryView {
+
+        UUID getId();
+
+        String getTitle();
+
+        LocalDateTime getDate();
+
+        String getLocation();
+
+        long getParticipantCount();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+    }
+
+    /**
+     * 모임 버전 프로젝션.
+     * 참여자 구성이 바뀌면 모임 버전이 증가하고, 참여자나 프로필이 수정되면 수정 시각 또는 개수가 바뀝니다.
+     */
+    interface VersionView {
+
+        long getVersion();
+
+        long getParticipantCount();
+
+        LocalDateTime getParticipantsUpdatedAt();
+
+        long getProfileCount();
+
+        LocalDateTime getProfilesUpdatedAt();
+    }
+
+    /**
+     * 모임 내보내기 행 프로젝션.
+     */
+    interface ExportRow {
+
+        UUID getMeetingId();
+
+        String getTitle();
+
+        String getDescription();
+
+        LocalDateTime getDate();
+
+        String getLocation();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+
+        UUID getParticipantId();
+
+        String getParticipantName();
+
+        String getParticipantPosition();
+
+        String getParticipantSeason();
+    }
 }
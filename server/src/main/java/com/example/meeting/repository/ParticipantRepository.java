@@ -1,24 +1,61 @@
 package com.example.meeting.repository;
 
 import com.example.meeting.domain.Participant;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Participant 엔티티를 위한 레포지토리 인터페이스.
  * 참여자 작업을 위한 데이터베이스 접근 메서드를 제공합니다.
  */
 @Repository
-public interface ParticipantRepository extends JpaRepository<Participant, String> {
+public interface ParticipantRepository extends JpaRepository<Participant, UUID> {
+
+    /**
+     * 모든 참여자를 프로필과 함께 조회합니다.
+     * 프로필은 지연 로딩되므로 엔티티 그래프로 한 번에 조회합니다.
+     * 프로필이 필요 없으면 {@link #findAll()}을 사용합니다.
+     *
+     * @return 모든 참여자 목록
+     */
+    @EntityGraph(attributePaths = "profile")
+    @Query("select p from Participant p")
+    List<Participant> findAllWithProfiles();
+
+    /**
+     * 주어진 ID의 참여자들을 프로필과 함께 조회합니다.
+     * 프로필이 필요 없으면 {@link #findAllById(Iterable)}를 사용합니다.
+     *
+     * @param ids 참여자 ID 목록
+     * @return 참여자 목록 (순서는 보장되지 않음)
+     */
+    @EntityGraph(attributePaths = "profile")
+    List<Participant> findWithProfilesByIdIn(Collection<UUID> ids);
 
     /**
      * 전화번호로 참여자를 조회합니다.
+     * 결과는 쿼리 캐시에 보관되며 참여자 테이블이 변경되면 무효화됩니다.
      *
      * @param phone 검색할 전화번호
      * @return 참여자를 포함하는 Optional (찾은 경우)
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Participant> findByPhone(String phone);
 
     /**
@@ -27,5 +64,360 @@ public interface ParticipantRepository extends JpaRepository<Participant, String
      * @param phone 확인할 전화번호
      * @return 이 전화번호를 가진 참여자가 존재하면 true, 그렇지 않으면 false
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByPhone(String phone);
+
+    /**
+     * 주어진 ID 중 존재하는 참여자 수를 조회합니다.
+     *
+     * @param ids 참여자 ID 목록
+     * @return 존재하는 참여자 수
+     */
+    long countByIdIn(Collection<UUID> ids);
+
+    /**
+     * 주어진 전화번호 중 이미 등록된 전화번호를 조회합니다.
+     *
+     * @param phones 확인할 전화번호 목록
+     * @return 이미 등록된 전화번호 목록
+     */
+    @Query("select p.phone from Participant p where p.phone in :phones")
+    List<String> findPhonesByPhoneIn(@Param("phones") Collection<String> phones);
+
+    /**
+     * 주어진 전화번호로 등록된 참여자의 ID와 전화번호를 조회합니다.
+     *
+     * @param phones 조회할 전화번호 목록
+     * @return 참여자 ID와 전화번호 목록
+     */
+    @Query("select p.id as id, p.phone as phone from Participant p where p.phone in :phones")
+    List<PhoneView> findPhoneViewsByPhoneIn(@Param("phones") Collection<String> phones);
+
+    /**
+     * 주어진 참여자들의 모든 모임 참여 기록을 삭제합니다.
+     *
+     * @param ids 참여자 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "meeting_participants"))
+    @Query(value = "delete from meeting_participants where participant_id in (:ids)", nativeQuery = true)
+    int deleteMeetingParticipantsByParticipantIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 주어진 ID의 참여자들을 삭제합니다.
+     * 모임 참여 기록과 프로필은 미리 삭제되어 있어야 합니다.
+     *
+     * @param ids 참여자 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from Participant p where p.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 최근 수정된 순서로 한 페이지 분량의 참여자를 조회합니다.
+     * 전체 개수를 세지 않고 다음 페이지 존재 여부만 확인합니다.
+     * 프로필은 조회하지 않습니다.
+     *
+     * @param pageable 페이지 번호와 크기
+     * @return updatedAt, id 기준 내림차순으로 정렬된 참여자 슬라이스
+     */
+    @Query("select p from Participant p order by p.updatedAt desc, p.id desc")
+    Slice<Participant> findSlice(Pageable pageable);
+
+    /**
+     * 최근 수정된 순서로 한 페이지 분량의 참여자를 프로필과 함께 조회합니다.
+     * 일대일 연관관계의 조인은 행 수를 늘리지 않으므로 데이터베이스에서 페이지를 자릅니다.
+     *
+     * @param pageable 페이지 번호와 크기
+     * @return updatedAt, id 기준 내림차순으로 정렬된 참여자 슬라이스
+     */
+    @EntityGraph(attributePaths = "profile")
+    @Query("select p from Participant p order by p.updatedAt desc, p.id desc")
+    Slice<Participant> findSliceWithProfiles(Pageable pageable);
+
+    /**
+     * 주어진 키셋 위치 이후의 참여자를 최근 수정된 순서로 조회합니다.
+     * 프로필은 조회하지 않습니다.
+     *
+     * @param updatedAt 마지막으로 읽은 참여자의 수정 시각
+     * @param id 마지막으로 읽은 참여자의 ID
+     * @param pageable 페이지 크기 (페이지 번호는 0이어야 함)
+     * @return updatedAt, id 기준 내림차순으로 정렬된 참여자 슬라이스
+     */
+    @Query("select p from Participant p "
+            + "where p.updatedAt < :updatedAt or (p.updatedAt = :updatedAt and p.id < :id) "
+            + "order by p.updatedAt desc, p.id desc")
+    Slice<Participant> findSliceAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                      @Param("id") UUID id,
+                                      Pageable pageable);
+
+    /**
+     * 주어진 키셋 위치 이후의 참여자를 최근 수정된 순서로 프로필과 함께 조회합니다.
+     *
+     * @param updatedAt 마지막으로 읽은 참여자의 수정 시각
+     * @param id 마지막으로 읽은 참여자의 ID
+     * @param pageable 페이지 크기 (페이지 번호는 0이어야 함)
+     * @return updatedAt, id 기준 내림차순으로 정렬된 참여자 슬라이스
+     */
+    @EntityGraph(attributePaths = "profile")
+    @Query("select p from Participant p "
+            + "where p.updatedAt < :updatedAt or (p.updatedAt = :updatedAt and p.id < :id) "
+            + "order by p.updatedAt desc, p.id desc")
+    Slice<Participant> findSliceAfterWithProfiles(@Param("updatedAt") LocalDateTime updatedAt,
+                                                  @Param("id") UUID id,
+                                                  Pageable pageable);
+
+    /**
+     * 기수별 참여자 수를 기수의 자연 정렬 순서로 조회합니다.
+     *
+     * @return 기수 정렬 키 순으로 정렬된 기수 그룹 목록
+     */
+    @Query("select p.season as season, count(p) as count from Participant p "
+            + "group by p.seasonSortKey, p.season "
+            + "order by p.seasonSortKey, p.season")
+    List<SeasonGroupView> findSeasonGroups();
+
+    /**
+     * 각 기수에서 이름 순으로 앞선 참여자 ID를 기수마다 최대 size개씩 조회합니다.
+     * 윈도 함수로 한 번에 계산하므로 기수 수와 관계없이 한 번의 쿼리로 실행됩니다.
+     *
+     * @param size 기수별 최대 참여자 수
+     * @return 참여자 ID 목록
+     */
+    @Query(value = "select id from ("
+            + "select p.id, row_number() over (partition by p.season order by p.name, p.id) as rn "
+            + "from participants p) ranked "
+            + "where ranked.rn <= :size", nativeQuery = true)
+    List<UUID> findFirstIdsPerSeason(@Param("size") int size);
+
+    /**
+     * 한 기수의 참여자를 이름 순으로 한 페이지 분량만 조회합니다.
+     * 프로필은 조회하지 않습니다.
+     *
+     * @param season 기수
+     * @param pageable 페이지 번호와 크기
+     * @return 이름, id 기준 오름차순으로 정렬된 참여자 슬라이스
+     */
+    @Query("select p from Participant p where p.season = :season order by p.name, p.id")
+    Slice<Participant> findSeasonSlice(@Param("season") String season, Pageable pageable);
+
+    /**
+     * 한 기수의 참여자를 이름 순으로 한 페이지 분량만 프로필과 함께 조회합니다.
+     *
+     * @param season 기수
+     * @param pageable 페이지 번호와 크기
+     * @return 이름, id 기준 오름차순으로 정렬된 참여자 슬라이스
+     */
+    @EntityGraph(attributePaths = "profile")
+    @Query("select p from Participant p where p.season = :season order by p.name, p.id")
+    Slice<Participant> findSeasonSliceWithProfiles(@Param("season") String season, Pageable pageable);
+
+    /**
+     * 모임에 참석하지 않는 참여자를 기수, 이름 순으로 한 페이지 분량만 조회합니다.
+     * 조인 테이블에 대한 NOT EXISTS 안티 조인으로 계산하므로 전체 참여자를 로딩하지 않습니다.
+     * 프로필은 조회하지 않습니다.
+     *
+     * @param meetingId 모임 ID
+     * @param pattern 이름 또는 기수 LIKE 패턴 (소문자, null이면 전체)
+     * @param pageable 페이지 번호와 크기
+     * @return 미참석자 슬라이스
+     */
+    @Query("select p from Participant p "
+            + "where not exists (select 1 from Meeting m join m.participants mp where m.id = :meetingId and mp.id = p.id) "
+            + "and (:pattern is null or lower(p.name) like :pattern escape '\\' or lower(p.season) like :pattern escape '\\') "
+            + "order by p.seasonSortKey, p.season, p.name, p.id")
+    Slice<Participant> findNonAttendeeSlice(@Param("meetingId") UUID meetingId,
+                                            @Param("pattern") String pattern,
+                                            Pageable pageable);
+
+    /**
+     * 모임에 참석하지 않는 참여자를 기수, 이름 순으로 한 페이지 분량만 프로필과 함께 조회합니다.
+     *
+     * @param meetingId 모임 ID
+     * @param pattern 이름 또는 기수 LIKE 패턴 (소문자, null이면 전체)
+     * @param pageable 페이지 번호와 크기
+     * @return 미참석자 슬라이스
+     */
+    @EntityGraph(attributePaths = "profile")
+    @Query("select p from Participant p "
+            + "where not exists (select 1 from Meeting m join m.participants mp where m.id = :meetingId and mp.id = p.id) "
+            + "and (:pattern is null or lower(p.name) like :pattern escape '\\' or lower(p.season) like :pattern escape '\\') "
+            + "order by p.seasonSortKey, p.season, p.name, p.id")
+    Slice<Participant> findNonAttendeeSliceWithProfiles(@Param("meetingId") UUID meetingId,
+                                                        @Param("pattern") String pattern,
+                                                        Pageable pageable);
+
+    /**
+     * 기수 정렬 키가 아직 계산되지 않은 기수 목록을 조회합니다.
+     *
+     * @return 기수 목록
+     */
+    @Query("select distinct p.season from Participant p where p.seasonSortKey is null")
+    List<String> findSeasonsWithoutSortKey();
+
+    /**
+     * 한 기수에 속한 참여자들의 기수 정렬 키를 채웁니다.
+     *
+     * @param season 기수
+     * @param sortKey 기수 정렬 키
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("update Participant p set p.seasonSortKey = :sortKey where p.season = :season and p.seasonSortKey is null")
+    int updateSeasonSortKey(@Param("season") String season, @Param("sortKey") String sortKey);
+
+    /**
+     * 최근 수정된 순서로 모든 참여자의 요약 정보를 조회합니다.
+     * 스칼라 컬럼과 프로필 이미지 링크 생성에 필요한 값만 조회하며 엔티티는 로딩하지 않습니다.
+     *
+     * @return updatedAt, id 기준 내림차순으로 정렬된 참여자 요약 목록
+     */
+    @Query("select p.id as id, p.name as name, p.position as position, p.season as season, p.phone as phone, "
+            + "pr.id as profileId, pr.imageKey as imageKey, pr.imageUrl as imageUrl "
+            + "from Participant p left join p.profile pr "
+            + "order by p.updatedAt desc, p.id desc")
+    List<SummaryView> findAllSummaries();
+
+    /**
+     * 검색 색인 구성에 필요한 모든 참여자의 이름, 직책, 기수를 조회합니다.
+     *
+     * @return 참여자 검색 프로젝션 목록
+     */
+    @Query("select p.id as id, p.name as name, p.position as position, p.season as season from Participant p")
+    List<SearchView> findAllSearchViews();
+
+    /**
+     * 검색 색인 갱신에 필요한 참여자들의 이름, 직책, 기수를 조회합니다.
+     *
+     * @param ids 참여자 ID 목록
+     * @return 존재하는 참여자의 검색 프로젝션 목록
+     */
+    @Query("select p.id as id, p.name as name, p.position as position, p.season as season "
+            + "from Participant p where p.id in :ids")
+    List<SearchView> findSearchViewsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 내보내기를 위해 모든 참여자를 스트림으로 조회합니다.
+     * 스칼라 프로젝션만 JDBC fetch size 단위로 가져오므로 참여자 수와 관계없이 일정한 메모리로 실행됩니다.
+     * 트랜잭션 안에서 사용하고 사용 후 닫아야 합니다.
+     *
+     * @return 기수/이름 순으로 정렬된 참여자 내보내기 행 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p.id as id, p.name as name, p.position as position, p.season as season, p.phone as phone, "
+            + "p.createdAt as createdAt, p.updatedAt as updatedAt "
+            + "from Participant p order by p.seasonSortKey, p.name, p.id")
+    Stream<ExportRow> streamExportRows();
+
+    /**
+     * 모든 참여자의 행 수와 마지막 수정 시각을 조회합니다.
+     *
+     * @return 참여자 테이블 변경 집계
+     */
+    @Query("select count(p) as count, max(p.updatedAt) as lastUpdatedAt from Participant p")
+    ChangeStamp findChangeStamp();
+
+    /**
+     * 참여자와 프로필의 버전 정보를 엔티티 로딩 없이 조회합니다.
+     *
+     * @param id 참여자 ID
+     * @return 참여자가 존재하면 버전 정보를 포함하는 Optional
+     */
+    @Query("select p.version as version, pr.id as profileId, pr.version as profileVersion "
+            + "from Participant p left join p.profile pr where p.id = :id")
+    Optional<VersionView> findVersionById(@Param("id") UUID id);
+
+    /**
+     * 참여자 요약 프로젝션.
+     */
+    interface SummaryView {
+
+        UUID getId();
+
+        String getName();
+
+        String getPosition();
+
+        String getSeason();
+
+        String getPhone();
+
+        UUID getProfileId();
+
+        String getImageKey();
+
+        String getImageUrl();
+    }
+
+    /**
+     * 참여자 버전 프로젝션.
+     * 프로필이 없으면 프로필 ID와 버전은 null입니다.
+     */
+    interface VersionView {
+
+        long getVersion();
+
+        UUID getProfileId();
+
+        Long getProfileVersion();
+    }
+
+    /**
+     * 참여자 검색 색인 프로젝션.
+     */
+    interface SearchView {
+
+        UUID getId();
+
+        String getName();
+
+        String getPosition();
+
+        String getSeason();
+    }
+
+    /**
+     * 기수 그룹 프로젝션.
+     */
+    interface SeasonGroupView {
+
+        String getSeason();
+
+        long getCount();
+    }
+
+    /**
+     * 참여자 내보내기 행 프로젝션.
+     */
+    interface ExportRow {
+
+        UUID getId();
+
+        String getName();
+
+        String getPosition();
+
+        String getSeason();
+
+        String getPhone();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+    }
+
+    /**
+     * 참여자 전화번호 프로젝션.
+     */
+    interface PhoneView {
+
+        UUID getId();
+
+        String getPhone();
+    }
 }
@@ -2,22 +2,113 @@ package com.example.meeting.repository;
 
 import com.example.meeting.domain.Profile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Profile 엔티티를 위한 레포지토리 인터페이스.
  * 프로필 작업을 위한 데이터베이스 접근 메서드를 제공합니다.
+ * 프로필 ID는 참여자 ID와 같으므로 참여자 ID로 조회할 때도 ID를 사용합니다.
  */
 @Repository
-public interface ProfileRepository extends JpaRepository<Profile, String> {
+public interface ProfileRepository extends JpaRepository<Profile, UUID> {
 
     /**
-     * 참여자 ID로 프로필을 조회합니다.
+     * 주어진 참여자들의 프로필이 참조하는 이미지 키 목록을 조회합니다.
      *
-     * @param participantId 검색할 참여자 ID
-     * @return 프로필을 포함하는 Optional (찾은 경우)
+     * @param participantIds 참여자 ID 목록
+     * @return 이미지 키 목록
      */
-    Optional<Profile> findByParticipantId(String participantId);
+    @Query("select p.imageKey from Profile p where p.id in :participantIds and p.imageKey is not null")
+    List<String> findImageKeysByParticipantIdIn(@Param("participantIds") Collection<UUID> participantIds);
+
+    /**
+     * 주어진 참여자들의 프로필을 삭제합니다.
+     *
+     * @param participantIds 참여자 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from Profile p where p.id in :participantIds")
+    int deleteByParticipantIdIn(@Param("participantIds") Collection<UUID> participantIds);
+
+    /**
+     * 프로필 ID로 이미지 메타데이터와 저장된 이미지의 픽셀 크기만 조회합니다.
+     * 참여자 연관관계를 로딩하지 않습니다.
+     *
+     * @param id 프로필 ID
+     * @return 이미지 메타데이터를 포함하는 Optional (찾은 경우)
+     */
+    @Query("select p.imageKey as imageKey, p.imageContentType as imageContentType, p.imageSize as imageSize, "
+            + "b.width as imageWidth, b.height as imageHeight "
+            + "from Profile p left join ImageBlob b on b.id = p.imageKey "
+            + "where p.id = :id")
+    Optional<ImageView> findImageById(@Param("id") UUID id);
+
+    /**
+     * 이미지가 base64 data URL로 imageUrl 컬럼에 저장된 프로필 ID 목록을 조회합니다.
+     *
+     * @return 이미지 저장소로 옮겨야 하는 프로필 ID 목록
+     */
+    @Query("select p.id from Profile p where p.imageUrl like 'data:%'")
+    List<UUID> findIdsWithInlineImage();
+
+    /**
+     * 저장된 이미지가 내용 주소 기반 이미지 엔티티에 연결되지 않은 프로필 ID 목록을 조회합니다.
+     *
+     * @return 내용 주소 기반 저장소로 옮겨야 하는 프로필 ID 목록
+     */
+    @Query("select p.id from Profile p where p.imageKey is not null "
+            + "and not exists (select b.id from ImageBlob b where b.id = p.imageKey)")
+    List<UUID> findIdsWithLegacyImage();
+
+    /**
+     * 모든 프로필의 행 수와 마지막 수정 시각을 조회합니다.
+     *
+     * @return 프로필 테이블 변경 집계
+     */
+    @Query("select count(p) as count, max(p.updatedAt) as lastUpdatedAt from Profile p")
+    ChangeStamp findChangeStamp();
+
+    /**
+     * 참여자 ID로 프로필의 버전 정보만 조회합니다.
+     *
+     * @param participantId 참여자 ID
+     * @return 프로필이 존재하면 버전 정보를 포함하는 Optional
+     */
+    @Query("select p.id as id, p.version as version from Profile p where p.id = :participantId")
+    Optional<VersionView> findVersionByParticipantId(@Param("participantId") UUID participantId);
+
+    /**
+     * 프로필 이미지 메타데이터 프로젝션.
+     */
+    interface ImageView {
+
+        String getImageKey();
+
+        String getImageContentType();
+
+        Long getImageSize();
+
+        Integer getImageWidth();
+
+        Integer getImageHeight();
+    }
+
+    /**
+     * 프로필 버전 프로젝션.
+     */
+    interface VersionView {
+
+        UUID getId();
+
+        long getVersion();
+    }
 }
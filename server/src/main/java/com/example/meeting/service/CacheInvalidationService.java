@@ -0,0 +1,94 @@
+package com.example.meeting.service;
+
+import com.example.meeting.config.CacheConfig;
+import com.example.meeting.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 모임/참여자 응답 캐시의 무효화를 담당하는 서비스.
+ * 변경된 항목만 개별 캐시에서 제거하고, 해당 항목을 포함하는 목록 캐시를 비웁니다.
+ * 단건 캐시는 ID로 시작하는 모든 키(프로필 포함 여부, ETag별 표현)를 함께 제거합니다 ({@link com.example.meeting.config.ResponseCache}).
+ * 캐시는 트랜잭션을 인식하므로 무효화는 커밋 이후에 적용됩니다.
+ * 커밋 전에 시작되어 무효화 이후에 끝난 조회는 캐시의 세대 검사로 결과를 남기지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheInvalidationService {
+
+    private final CacheManager cacheManager;
+    private final MeetingRepository meetingRepository;
+
+    /**
+     * 모임이 생성, 수정 또는 삭제되었을 때 관련 캐시를 무효화합니다.
+     *
+     * @param id 모임 ID
+     */
+    public void meetingChanged(UUID id) {
+        meetingsChanged(List.of(id));
+    }
+
+    /**
+     * 여러 모임이 변경되었을 때 관련 캐시를 무효화합니다.
+     *
+     * @param ids 모임 ID 목록
+     */
+    public void meetingsChanged(Collection<UUID> ids) {
+        List<UUID> meetingIds = List.copyOf(ids);
+        Cache meetings = getCache(CacheConfig.MEETINGS);
+        meetingIds.forEach(id -> meetings.evict(List.of(id)));
+        getCache(CacheConfig.MEETING_LIST).clear();
+        getCache(CacheConfig.MEETING_SUMMARIES).clear();
+    }
+
+    /**
+     * 새 참여자가 생성되었을 때 참여자 목록 캐시를 무효화합니다.
+     * 새 참여자는 아직 어떤 모임에도 속하지 않으므로 모임 캐시는 유지됩니다.
+     */
+    public void participantsCreated() {
+        getCache(CacheConfig.PARTICIPANT_LIST).clear();
+        getCache(CacheConfig.PARTICIPANT_SUMMARIES).clear();
+    }
+
+    /**
+     * 참여자 또는 그 프로필이 수정되거나 삭제되었을 때 관련 캐시를 무효화합니다.
+     *
+     * @param id 참여자 ID
+     */
+    public void participantChanged(UUID id) {
+        participantsChanged(List.of(id));
+    }
+
+    /**
+     * 여러 참여자가 변경되었을 때 관련 캐시를 무효화합니다.
+     * 모임 응답은 참여자 정보를 포함하므로 해당 참여자가 속한 모임의 캐시도 함께 무효화합니다.
+     * 참여 기록을 삭제하기 전에 호출해야 합니다.
+     *
+     * @param ids 참여자 ID 목록
+     */
+    public void participantsChanged(Collection<UUID> ids) {
+        List<UUID> participantIds = List.copyOf(ids);
+        Cache participants = getCache(CacheConfig.PARTICIPANTS);
+        participantIds.forEach(id -> participants.evict(List.of(id)));
+        participantsCreated();
+
+        List<UUID> meetingIds = meetingRepository.findIdsByParticipantIdIn(ids);
+        if (!meetingIds.isEmpty()) {
+            meetingsChanged(meetingIds);
+        }
+    }
+
+    private Cache getCache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("캐시가 설정되지 않았습니다: " + name);
+        }
+        return cache;
+    }
+}
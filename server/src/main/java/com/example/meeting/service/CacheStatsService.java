@@ -0,0 +1,56 @@
+package com.example.meeting.service;
+
+import com.example.meeting.dto.CacheDto;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 응답 캐시의 적중/미스/제거 통계를 조회하는 서비스.
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatsService {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 모든 캐시의 통계를 조회합니다.
+     *
+     * @return 캐시별 통계 DTO 목록
+     */
+    public List<CacheDto.Stats> findAll() {
+        return cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .map(this::unwrap)
+                .filter(CaffeineCache.class::isInstance)
+                .map(CaffeineCache.class::cast)
+                .map(this::toStats)
+                .toList();
+    }
+
+    private Cache unwrap(Cache cache) {
+        return cache instanceof TransactionAwareCacheDecorator decorator ? decorator.getTargetCache() : cache;
+    }
+
+    private CacheDto.Stats toStats(CaffeineCache cache) {
+        CacheStats stats = cache.getNativeCache().stats();
+        return CacheDto.Stats.builder()
+                .name(cache.getName())
+                .size(cache.getNativeCache().estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .evictionWeight(stats.evictionWeight())
+                .build();
+    }
+}
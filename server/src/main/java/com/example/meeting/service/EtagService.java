@@ -0,0 +1,101 @@
+package com.example.meeting.service;
+
+import com.example.meeting.repository.ChangeStamp;
+import com.example.meeting.repository.MeetingRepository;
+import com.example.meeting.repository.ParticipantRepository;
+import com.example.meeting.repository.ProfileRepository;
+import com.example.meeting.util.EtagUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 조회 응답의 ETag를 계산하는 서비스.
+ * 엔티티 버전 또는 테이블 집계만 조회하므로 응답 본문을 만들지 않고도 변경 여부를 판단할 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EtagService {
+
+    private final MeetingRepository meetingRepository;
+    private final ParticipantRepository participantRepository;
+    private final ProfileRepository profileRepository;
+
+    /**
+     * 모임 목록 응답의 ETag를 계산합니다.
+     * 모임 응답에는 참여자와 프로필이 포함되므로 세 테이블의 집계를 모두 반영합니다.
+     *
+     * @return 모임 목록 ETag
+     */
+    public String meetingListEtag() {
+        return EtagUtil.of("meetings",
+                stamp(meetingRepository.findChangeStamp()),
+                stamp(participantRepository.findChangeStamp()),
+                stamp(profileRepository.findChangeStamp()));
+    }
+
+    /**
+     * 참여자 목록 응답의 ETag를 계산합니다.
+     *
+     * @return 참여자 목록 ETag
+     */
+    public String participantListEtag() {
+        return EtagUtil.of("participants",
+                stamp(participantRepository.findChangeStamp()),
+                stamp(profileRepository.findChangeStamp()));
+    }
+
+    /**
+     * 모임 단건 응답의 ETag를 계산합니다.
+     *
+     * @param id 모임 ID
+     * @return 모임이 존재하면 ETag를 포함하는 Optional
+     */
+    public Optional<String> meetingEtag(UUID id) {
+        return meetingRepository.findVersionById(id)
+                .map(v -> EtagUtil.of("meeting", id, v.getVersion(),
+                        v.getParticipantCount(), v.getParticipantsUpdatedAt(),
+                        v.getProfileCount(), v.getProfilesUpdatedAt()));
+    }
+
+    /**
+     * 모임 미참석자 응답의 ETag를 계산합니다.
+     * 미참석자는 모임의 참여자 구성과 전체 참여자 목록에 따라 달라지므로 두 값을 함께 반영합니다.
+     *
+     * @param id 모임 ID
+     * @return 모임이 존재하면 ETag를 포함하는 Optional
+     */
+    public Optional<String> nonAttendeeEtag(UUID id) {
+        return meetingEtag(id).map(meetingEtag -> EtagUtil.of("non-attendees", meetingEtag, participantListEtag()));
+    }
+
+    /**
+     * 참여자 단건 응답의 ETag를 계산합니다.
+     *
+     * @param id 참여자 ID
+     * @return 참여자가 존재하면 ETag를 포함하는 Optional
+     */
+    public Optional<String> participantEtag(UUID id) {
+        return participantRepository.findVersionById(id)
+                .map(v -> EtagUtil.of("participant", id, v.getVersion(), v.getProfileId(), v.getProfileVersion()));
+    }
+
+    /**
+     * 프로필 응답의 ETag를 계산합니다.
+     *
+     * @param participantId 참여자 ID
+     * @return 프로필이 존재하면 ETag를 포함하는 Optional
+     */
+    public Optional<String> profileEtag(UUID participantId) {
+        return profileRepository.findVersionByParticipantId(participantId)
+                .map(v -> EtagUtil.of("profile", v.getId(), v.getVersion()));
+    }
+
+    private String stamp(ChangeStamp stamp) {
+        return stamp.getCount() + "@" + stamp.getLastUpdatedAt();
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.meeting.service;
+
+import com.example.meeting.repository.MeetingRepository;
+import com.example.meeting.repository.ParticipantRepository;
+import com.example.meeting.util.CsvUtil;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 모임과 참여자 전체를 내보내는 서비스.
+ * 목록을 메모리에 모으지 않고 데이터베이스 스트림의 각 행을 바로 응답 스트림에 기록하므로
+ * 데이터 양과 관계없이 일정한 메모리로 실행됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExportService {
+
+    /**
+     * 클라이언트로 출력을 내보내는 행 간격
+     */
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final MeetingRepository meetingRepository;
+    private final ParticipantRepository participantRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 모든 모임과 참석자를 내보냅니다.
+     * NDJSON은 모임마다 참석자 배열을 포함한 한 줄을, CSV는 모임과 참석자 쌍마다 한 행을 기록합니다.
+     *
+     * @param out 응답 출력 스트림
+     * @param format 내보내기 형식
+     * @throws IOException 출력 스트림에 기록할 수 없는 경우
+     */
+    public void writeMeetings(OutputStream out, FileFormat format) throws IOException {
+        try (Stream<MeetingRepository.ExportRow> rows = meetingRepository.streamExportRows()) {
+            if (format == FileFormat.CSV) {
+                writeMeetingsCsv(rows.iterator(), out);
+            } else {
+                writeMeetingsNdjson(rows.iterator(), out);
+            }
+        }
+    }
+
+    /**
+     * 모든 참여자를 내보냅니다.
+     *
+     * @param out 응답 출력 스트림
+     * @param format 내보내기 형식
+     * @throws IOException 출력 스트림에 기록할 수 없는 경우
+     */
+    public void writeParticipants(OutputStream out, FileFormat format) throws IOException {
+        try (Stream<ParticipantRepository.ExportRow> rows = participantRepository.streamExportRows()) {
+            if (format == FileFormat.CSV) {
+                writeParticipantsCsv(rows.iterator(), out);
+            } else {
+                writeParticipantsNdjson(rows.iterator(), out);
+            }
+        }
+    }
+
+    /**
+     * 같은 모임의 행이 연속해서 오므로, 모임 ID가 바뀔 때마다 이전 모임의 줄을 닫고 새 줄을 시작합니다.
+     */
+    private void writeMeetingsNdjson(Iterator<MeetingRepository.ExportRow> rows, OutputStream out) throws IOException {
+        try (JsonGenerator generator = createGenerator(out)) {
+            UUID currentMeetingId = null;
+            int count = 0;
+            while (rows.hasNext()) {
+                MeetingRepository.ExportRow row = rows.next();
+                if (!row.getMeetingId().equals(currentMeetingId)) {
+                    if (currentMeetingId != null) {
+                        endMeeting(generator);
+                    }
+                    currentMeetingId = row.getMeetingId();
+                    generator.writeStartObject();
+                    generator.writeStringField("id", row.getMeetingId().toString());
+                    generator.writeStringField("title", row.getTitle());
+                    generator.writeStringField("desc", row.getDescription());
+                    generator.writePOJOField("date", row.getDate());
+                    generator.writeStringField("location", row.getLocation());
+                    generator.writePOJOField("createdAt", row.getCreatedAt());
+                    generator.writePOJOField("updatedAt", row.getUpdatedAt());
+                    generator.writeArrayFieldStart("participants");
+                }
+                if (row.getParticipantId() != null) {
+                    generator.writeStartObject();
+                    generator.writeStringField("id", row.getParticipantId().toString());
+                    generator.writeStringField("name", row.getParticipantName());
+                    generator.writeStringField("position", row.getParticipantPosition());
+                    generator.writeStringField("season", row.getParticipantSeason());
+                    generator.writeEndObject();
+                }
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+            if (currentMeetingId != null) {
+                endMeeting(generator);
+            }
+        }
+    }
+
+    private void endMeeting(JsonGenerator generator) throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private void writeMeetingsCsv(Iterator<MeetingRepository.ExportRow> rows, OutputStream out) throws IOException {
+        Writer writer = createWriter(out);
+        CsvUtil.writeRow(writer, "meetingId", "title", "desc", "date", "location", "createdAt", "updatedAt",
+                "participantId", "participantName", "participantPosition", "participantSeason");
+        int count = 0;
+        while (rows.hasNext()) {
+            MeetingRepository.ExportRow row = rows.next();
+            CsvUtil.writeRow(writer, row.getMeetingId(), row.getTitle(), row.getDescription(),
+                    format(row.getDate()), row.getLocation(), format(row.getCreatedAt()), format(row.getUpdatedAt()),
+                    row.getParticipantId(), row.getParticipantName(), row.getParticipantPosition(),
+                    row.getParticipantSeason());
+            if (++count % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeParticipantsNdjson(Iterator<ParticipantRepository.ExportRow> rows, OutputStream out) throws IOException {
+        try (JsonGenerator generator = createGenerator(out)) {
+            int count = 0;
+            while (rows.hasNext()) {
+                ParticipantRepository.ExportRow row = rows.next();
+                generator.writeStartObject();
+                generator.writeStringField("id", row.getId().toString());
+                generator.writeStringField("name", row.getName());
+                generator.writeStringField("position", row.getPosition());
+                generator.writeStringField("season", row.getSeason());
+                generator.writeStringField("phone", row.getPhone());
+                generator.writePOJOField("createdAt", row.getCreatedAt());
+                generator.writePOJOField("updatedAt", row.getUpdatedAt());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+    }
+
+    private void writeParticipantsCsv(Iterator<ParticipantRepository.ExportRow> rows, OutputStream out) throws IOException {
+        Writer writer = createWriter(out);
+        CsvUtil.writeRow(writer, "id", "name", "position", "season", "phone", "createdAt", "updatedAt");
+        int count = 0;
+        while (rows.hasNext()) {
+            ParticipantRepository.ExportRow row = rows.next();
+            CsvUtil.writeRow(writer, row.getId(), row.getName(), row.getPosition(), row.getSeason(), row.getPhone(),
+                    format(row.getCreatedAt()), format(row.getUpdatedAt()));
+            if (++count % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * 응답 스트림은 서블릿 컨테이너가 닫으므로 생성기를 닫을 때 함께 닫지 않습니다.
+     */
+    private JsonGenerator createGenerator(OutputStream out) throws IOException {
+        return objectMapper.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    private Writer createWriter(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CsvUtil.BOM);
+        return writer;
+    }
+
+    private String format(LocalDateTime value) {
+        return value != null ? value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) : null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.meeting.service;
+
+import com.example.meeting.exception.InvalidRequestException;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * 가져오기/내보내기 파일 형식.
+ */
+@Getter
+public enum FileFormat {
+
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    FileFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    /**
+     * 요청 파라미터를 파일 형식으로 변환합니다.
+     *
+     * @param value 형식 이름 ("ndjson" 또는 "csv")
+     * @return 파일 형식
+     * @throws InvalidRequestException 지원하지 않는 형식인 경우
+     */
+    public static FileFormat from(String value) {
+        try {
+            return FileFormat.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("지원하지 않는 파일 형식입니다: " + value);
+        }
+    }
+
+    /**
+     * 형식 파라미터가 없으면 파일 확장자로 형식을 판단합니다.
+     *
+     * @param value 형식 이름 (선택 사항)
+     * @param filename 업로드된 파일 이름 (선택 사항)
+     * @return 파일 형식
+     * @throws InvalidRequestException 형식을 판단할 수 없거나 지원하지 않는 형식인 경우
+     */
+    public static FileFormat of(String value, String filename) {
+        if (value != null) {
+            return from(value);
+        }
+        String name = filename != null ? filename.toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new InvalidRequestException("파일 형식을 알 수 없습니다. format 파라미터로 ndjson 또는 csv를 지정해 주세요.");
+    }
+}
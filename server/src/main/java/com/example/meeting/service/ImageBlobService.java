@@ -0,0 +1,219 @@
+package com.example.meeting.service;
+
+import com.example.meeting.domain.ImageBlob;
+import com.example.meeting.repository.ImageBlobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.awt.Dimension;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 내용 주소 기반 이미지 저장을 관리하는 서비스.
+ * 이미지는 SHA-256 해시로 한 번만 저장되고 참조 카운트로 수명이 관리됩니다.
+ * 참조되지 않는 이미지의 파일은 행을 쓰기 잠금한 상태에서 참조 카운트를 다시 확인한 뒤 삭제하므로,
+ * 같은 이미지를 동시에 다시 참조하는 요청과 경합하지 않습니다.
+ * 커밋 후 정리가 실행되지 못하고 남은 참조되지 않는 이미지는 주기적으로 찾아 같은 방식으로 정리합니다.
+ */
+@Slf4j
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class ImageBlobService {
+
+    /**
+     * 동시에 정리된 행을 다시 만드는 최대 시도 횟수
+     */
+    private static final int MAX_ACQUIRE_ATTEMPTS = 3;
+
+    private final ImageBlobRepository imageBlobRepository;
+    private final ImageStorageService imageStorageService;
+    private final ImageVariantService imageVariantService;
+    private final TransactionTemplate newTransaction;
+    private final Duration sweepGracePeriod;
+
+    public ImageBlobService(ImageBlobRepository imageBlobRepository,
+                            ImageStorageService imageStorageService,
+                            ImageVariantService imageVariantService,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${image.sweep.grace-period}") Duration sweepGracePeriod) {
+        this.imageBlobRepository = imageBlobRepository;
+        this.imageStorageService = imageStorageService;
+        this.imageVariantService = imageVariantService;
+        this.sweepGracePeriod = sweepGracePeriod;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 이미지 바이트에 대한 참조를 획득합니다.
+     * 같은 내용이 이미 저장되어 있으면 참조 카운트만 증가시키고, 없으면 헤더의 픽셀 크기와 함께 새로 저장한 뒤
+     * 축소 변형 생성을 예약합니다.
+     * 새 이미지 행은 별도 트랜잭션에서 참조 카운트 0으로 먼저 커밋하므로, 같은 이미지를 동시에 올린 요청은
+     * 기본 키 충돌 대신 그 행의 참조 카운트를 증가시킵니다.
+     *
+     * @param bytes 이미지 바이트
+     * @param contentType 이미지 MIME 타입
+     * @return 참조를 획득한 이미지 엔티티
+     */
+    public ImageBlob acquire(byte[] bytes, String contentType) {
+        String hash = sha256(bytes);
+
+        for (int attempt = 0; attempt < MAX_ACQUIRE_ATTEMPTS; attempt++) {
+            if (imageBlobRepository.incrementRefCount(hash) > 0) {
+                // 증가시킨 행은 커밋까지 잠겨 있으므로 이 확인 이후 파일이 정리되지 않음
+                if (!imageStorageService.exists(hash)) {
+                    imageStorageService.store(hash, bytes);
+                }
+                return imageBlobRepository.findById(hash).orElseThrow();
+            }
+
+            // 행이 보이기 전에 파일을 먼저 저장하여 커밋된 행이 파일 없이 남지 않도록 함
+            imageStorageService.store(hash, bytes);
+            if (insertUnreferenced(hash, contentType, bytes.length, imageVariantService.readDimension(bytes))) {
+                purgeOnRollback(hash);
+                imageVariantService.generateAfterCommit(hash);
+            }
+        }
+        throw new IllegalStateException("이미지 참조를 획득할 수 없습니다: " + hash);
+    }
+
+    /**
+     * 이미지에 대한 참조를 해제합니다.
+     * 더 이상 참조하는 프로필이 없으면 트랜잭션 커밋 후 이미지 행과 파일, 변형을 정리합니다.
+     * 참조 카운트 도입 전에 저장된 이미지는 커밋 후 바로 파일을 삭제합니다.
+     *
+     * @param hash 이미지 해시
+     */
+    public void release(String hash) {
+        if (imageBlobRepository.decrementRefCount(hash) == 0) {
+            imageStorageService.deleteAfterCommit(hash);
+            return;
+        }
+        if (imageBlobRepository.findRefCountById(hash).filter(refCount -> refCount <= 0).isPresent()) {
+            purgeAfterCommit(hash);
+        }
+    }
+
+    /**
+     * 참조되지 않은 채 유예 시간이 지난 이미지의 행과 파일, 변형을 삭제합니다.
+     * 업로드 트랜잭션이 커밋되기 전에 서버가 종료되면 먼저 커밋한 참조 카운트 0인 행과 파일이 남고,
+     * 참조 해제 후 커밋 후 정리가 실행되지 못해도 마찬가지이므로 주기적으로 찾아 정리합니다.
+     * 유예 시간은 업로드가 행을 추가한 뒤 참조 카운트를 올리기 전의 행을 건너뛰기 위한 것이며,
+     * 그 사이 참조된 이미지는 행을 잠근 뒤 다시 확인하므로 삭제되지 않습니다.
+     *
+     * @return 삭제한 이미지 수
+     */
+    @Scheduled(initialDelayString = "${image.sweep.interval}", fixedDelayString = "${image.sweep.interval}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int sweepUnreferenced() {
+        int purged = 0;
+        for (String hash : imageBlobRepository.findUnreferencedIdsCreatedBefore(
+                LocalDateTime.now().minus(sweepGracePeriod))) {
+            if (purgeIfUnreferenced(hash)) {
+                purged++;
+            }
+        }
+        if (purged > 0) {
+            log.info("Purged {} unreferenced images", purged);
+        }
+        return purged;
+    }
+
+    /**
+     * 이미지 파일이 참조 카운트 없이 저장된 이전 형식인지 확인합니다.
+     *
+     * @param key 이미지 키
+     * @return 대응하는 이미지 엔티티가 없으면 true
+     */
+    public boolean isLegacy(String key) {
+        return !imageBlobRepository.existsById(key);
+    }
+
+    /**
+     * 별도 트랜잭션에서 참조 카운트 0인 이미지 행을 추가합니다.
+     *
+     * @return 행을 추가했으면 true, 다른 트랜잭션이 이미 추가했으면 false
+     */
+    private boolean insertUnreferenced(String hash, String contentType, long size, Optional<Dimension> dimension) {
+        Integer width = dimension.map(d -> d.width).orElse(null);
+        Integer height = dimension.map(d -> d.height).orElse(null);
+        try {
+            newTransaction.executeWithoutResult(status ->
+                    imageBlobRepository.insertUnreferenced(hash, contentType, size, width, height));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 참조되지 않는 이미지를 정리합니다.
+     */
+    private void purgeAfterCommit(String hash) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                purgeIfUnreferenced(hash);
+            }
+        });
+    }
+
+    /**
+     * 새로 추가한 이미지 행을 트랜잭션 롤백 시 정리합니다.
+     * 그 사이 다른 트랜잭션이 같은 이미지를 참조했다면 행과 파일을 유지합니다.
+     */
+    private void purgeOnRollback(String hash) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    purgeIfUnreferenced(hash);
+                }
+            }
+        });
+    }
+
+    /**
+     * 별도 트랜잭션에서 이미지 행을 쓰기 잠금하고, 여전히 참조되지 않으면 파일과 행을 삭제합니다.
+     * 잠금 동안 같은 이미지의 참조 카운트 증가는 대기하며, 정리가 끝나면 행이 없으므로 새로 저장합니다.
+     *
+     * @return 삭제했으면 true
+     */
+    private boolean purgeIfUnreferenced(String hash) {
+        try {
+            return Boolean.TRUE.equals(newTransaction.execute(status -> imageBlobRepository.findForUpdateById(hash)
+                    .filter(blob -> blob.getRefCount() <= 0)
+                    .map(blob -> {
+                        imageStorageService.delete(hash);
+                        return imageBlobRepository.deleteIfUnreferenced(hash) > 0;
+                    })
+                    .orElse(false)));
+        } catch (RuntimeException e) {
+            log.warn("Failed to purge unreferenced image {}: {}", hash, e.getMessage());
+            return false;
+        }
+    }
+
+    private String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.meeting.service;
+
+import com.example.meeting.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 프로필 이미지 바이트를 디스크에 저장하는 서비스.
+ * 이미지는 데이터베이스 대신 키로 식별되는 파일로 보관되어 스트리밍으로 제공됩니다.
+ * 키의 발급과 수명은 ImageBlobService가 관리합니다.
+ */
+@Slf4j
+@Service
+public class ImageStorageService {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-zA-Z_-]+");
+
+    private final Path root;
+
+    public ImageStorageService(@Value("${image.storage.path}") String path) {
+        this.root = Paths.get(path).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 저장소를 생성할 수 없습니다: " + root, e);
+        }
+    }
+
+    /**
+     * 이미지 바이트를 주어진 키로 저장합니다.
+     * 임시 파일에 기록한 뒤 원자적으로 이동하므로 부분적으로 기록된 파일은 노출되지 않습니다.
+     *
+     * @param key 이미지 키
+     * @param bytes 저장할 이미지 바이트
+     */
+    public void store(String key, byte[] bytes) {
+        write(key, bytes);
+    }
+
+    /**
+     * 키에 해당하는 이미지 파일이 존재하는지 확인합니다.
+     *
+     * @param key 이미지 키
+     * @return 파일이 존재하면 true, 그렇지 않으면 false
+     */
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    /**
+     * 키에 해당하는 이미지를 스트리밍 가능한 리소스로 조회합니다.
+     *
+     * @param key 이미지 키
+     * @return 파일 기반 리소스
+     * @throws ResourceNotFoundException 이미지 파일이 존재하지 않는 경우
+     */
+    public Resource load(String key) {
+        Path file = resolve(key);
+        if (!Files.isRegularFile(file)) {
+            throw new ResourceNotFoundException("이미지를 찾을 수 없습니다.");
+        }
+        return new FileSystemResource(file);
+    }
+
+    /**
+     * 이미지의 축소 변형을 저장합니다.
+     * 변형은 원본과 같은 디렉터리에 "{키}_{크기}" 이름으로 보관됩니다.
+     *
+     * @param key 원본 이미지 키
+     * @param size 변형의 최대 변 길이 (픽셀)
+     * @param bytes 변형 이미지 바이트
+     */
+    public void storeVariant(String key, int size, byte[] bytes) {
+        write(variantKey(key, size), bytes);
+    }
+
+    /**
+     * 이미지의 축소 변형을 조회합니다.
+     *
+     * @param key 원본 이미지 키
+     * @param size 변형의 최대 변 길이 (픽셀)
+     * @return 변형이 생성되어 있으면 파일 기반 리소스를 포함하는 Optional
+     */
+    public Optional<Resource> loadVariant(String key, int size) {
+        Path file = resolve(variantKey(key, size));
+        return Files.isRegularFile(file) ? Optional.of(new FileSystemResource(file)) : Optional.empty();
+    }
+
+    /**
+     * 키에 해당하는 이미지 파일과 모든 축소 변형을 삭제합니다.
+     *
+     * @param key 이미지 키
+     */
+    public void delete(String key) {
+        Path file = resolve(key);
+        try (DirectoryStream<Path> variants = Files.newDirectoryStream(file.getParent(), key + "_*")) {
+            Files.deleteIfExists(file);
+            for (Path variant : variants) {
+                Files.deleteIfExists(variant);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to delete image {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 이미지 파일을 삭제합니다.
+     * 트랜잭션이 롤백되면 파일은 유지됩니다.
+     *
+     * @param key 이미지 키
+     */
+    public void deleteAfterCommit(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delete(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                delete(key);
+            }
+        });
+    }
+
+    private String variantKey(String key, int size) {
+        return key + "_" + size;
+    }
+
+    private void write(String key, byte[] bytes) {
+        Path target = resolve(key);
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), key, ".tmp");
+            Files.write(temp, bytes);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지를 저장할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 키를 저장소 내부 경로로 변환합니다.
+     * 디렉터리당 파일 수를 줄이기 위해 키의 앞 두 글자로 하위 디렉터리를 나눕니다.
+     */
+    private Path resolve(String key) {
+        if (key == null || key.length() < 3 || !KEY_PATTERN.matcher(key).matches()) {
+            throw new ResourceNotFoundException("이미지를 찾을 수 없습니다.");
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key);
+    }
+}
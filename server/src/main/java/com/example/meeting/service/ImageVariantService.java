@@ -0,0 +1,314 @@
+package com.example.meeting.service;
+
+import com.example.meeting.exception.InvalidRequestException;
+import com.example.meeting.util.ImageTypeUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로필 이미지의 축소 변형을 생성하고 조회하는 서비스.
+ * 변형은 업로드 후 제한된 백그라운드 실행기에서 javax.imageio로 생성됩니다.
+ * 실행기 대기열이 가득 차 거절된 변형은 해당 크기를 다음에 조회할 때 다시 예약됩니다.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private static final String ORIGINAL = "original";
+
+    private final ImageStorageService imageStorageService;
+    private final TaskExecutor executor;
+    private final List<Integer> sizes;
+    private final long maxPixels;
+
+    /**
+     * 생성이 예약되었거나 진행 중인 원본 이미지 키. 같은 이미지를 중복으로 예약하지 않습니다.
+     */
+    private final Set<String> scheduled = ConcurrentHashMap.newKeySet();
+
+    public ImageVariantService(ImageStorageService imageStorageService,
+                               @Qualifier("imageVariantExecutor") TaskExecutor executor,
+                               @Value("${image.variants.sizes}") List<Integer> sizes,
+                               @Value("${image.variants.max-pixels}") long maxPixels) {
+        this.imageStorageService = imageStorageService;
+        this.executor = executor;
+        this.sizes = sizes.stream().sorted().toList();
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 이미지의 축소 변형 생성을 예약합니다.
+     *
+     * @param key 원본 이미지 키
+     */
+    public void generateAfterCommit(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            regenerate(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                regenerate(key);
+            }
+        });
+    }
+
+    /**
+     * 이미지의 축소 변형 생성을 예약합니다.
+     * 이미 예약되었거나 진행 중이면 아무것도 하지 않으며, 대기열이 가득 차면 예약하지 않고 다음 호출에서 다시 시도합니다.
+     *
+     * @param key 원본 이미지 키
+     */
+    public void regenerate(String key) {
+        if (!scheduled.add(key)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(key);
+                } finally {
+                    scheduled.remove(key);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            scheduled.remove(key);
+            log.warn("Image variant queue is full, skipping variant generation for {}", key);
+        }
+    }
+
+    /**
+     * 요청된 크기 파라미터를 제공할 변형 크기로 변환합니다.
+     * 요청 크기 이상인 가장 작은 변형을 선택하며, 없으면 원본을 사용합니다.
+     *
+     * @param size 요청된 크기 ("original" 또는 픽셀 수, 선택 사항)
+     * @return 변형 크기를 포함하는 Optional (원본을 제공해야 하면 비어 있음)
+     * @throws InvalidRequestException 크기 값이 올바르지 않은 경우
+     */
+    public Optional<Integer> resolveSize(String size) {
+        if (size == null || ORIGINAL.equals(size)) {
+            return Optional.empty();
+        }
+
+        int requested;
+        try {
+            requested = Integer.parseInt(size);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("이미지 크기가 올바르지 않습니다.");
+        }
+        if (requested <= 0) {
+            throw new InvalidRequestException("이미지 크기가 올바르지 않습니다.");
+        }
+        return sizes.stream().filter(candidate -> candidate >= requested).findFirst();
+    }
+
+    /**
+     * 생성된 축소 변형을 조회합니다.
+     *
+     * @param key 원본 이미지 키
+     * @param size 변형 크기
+     * @return 변형이 있으면 리소스를 포함하는 Optional
+     */
+    public Optional<Resource> findVariant(String key, int size) {
+        return imageStorageService.loadVariant(key, size);
+    }
+
+    /**
+     * 원본 이미지에 주어진 크기의 변형이 생성되어야 하는지 확인합니다.
+     * 원본이 이미 그 크기 이하이거나, ImageIO가 읽을 수 없거나(크기가 없음), 픽셀 수 제한을 넘으면
+     * 변형은 생성되지 않으므로 원본이 해당 크기의 최종 응답이 됩니다.
+     *
+     * @param width 업로드 시 기록한 가로 픽셀 수 (알 수 없으면 null)
+     * @param height 업로드 시 기록한 세로 픽셀 수 (알 수 없으면 null)
+     * @param size 변형 크기
+     * @return 변형이 생성될 예정이거나 생성되어 있어야 하면 true
+     */
+    public boolean expectsVariant(Integer width, Integer height, int size) {
+        if (width == null || height == null) {
+            return false;
+        }
+        Dimension dimension = new Dimension(width, height);
+        return withinPixelLimit(dimension) && Math.max(width, height) > size;
+    }
+
+    /**
+     * 이미지를 디코딩하지 않고 헤더에서 픽셀 크기만 읽습니다.
+     *
+     * @param bytes 이미지 바이트
+     * @return 픽셀 크기 (ImageIO가 읽을 수 없는 형식이면 비어 있음)
+     */
+    public Optional<Dimension> readDimension(byte[] bytes) {
+        try {
+            return readDimension(new ByteArrayInputStream(bytes));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 변형 리소스의 MIME 타입을 파일 시그니처로 판별합니다.
+     *
+     * @param resource 변형 리소스
+     * @return MIME 타입
+     */
+    public String contentTypeOf(Resource resource) {
+        try (InputStream in = resource.getInputStream()) {
+            return ImageTypeUtil.detect(in.readNBytes(ImageTypeUtil.HEADER_LENGTH)).orElse(ImageTypeUtil.JPEG);
+        } catch (IOException e) {
+            return ImageTypeUtil.JPEG;
+        }
+    }
+
+    /**
+     * 원본 이미지에서 설정된 크기별 축소 변형을 생성합니다.
+     * 원본이 해당 크기보다 작거나 ImageIO가 읽을 수 없는 형식이면 변형을 만들지 않습니다.
+     * 디코딩 전에 헤더의 픽셀 크기를 확인하여, 작은 파일에 거대한 크기를 선언한 이미지로 메모리가 고갈되지 않도록 합니다.
+     *
+     * @param key 원본 이미지 키
+     */
+    void generate(String key) {
+        try {
+            BufferedImage source;
+            try (InputStream in = imageStorageService.load(key).getInputStream();
+                 ImageInputStream image = ImageIO.createImageInputStream(in)) {
+                source = read(key, image);
+            }
+            if (source == null) {
+                return;
+            }
+
+            for (int size : sizes) {
+                if (Math.max(source.getWidth(), source.getHeight()) <= size) {
+                    break;
+                }
+                imageStorageService.storeVariant(key, size, encode(scale(source, size)));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to generate image variants for {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 이미지 헤더에서 픽셀 크기를 확인한 뒤 제한 이내이고 가장 작은 변형보다 클 때만 디코딩합니다.
+     *
+     * @return 디코딩된 이미지 (변형이 필요 없거나 만들 수 없으면 null)
+     */
+    private BufferedImage read(String key, ImageInputStream image) throws IOException {
+        Optional<ImageReader> opened = openReader(image);
+        if (opened.isEmpty()) {
+            log.debug("Unsupported image format, skipping variants for {}", key);
+            return null;
+        }
+        ImageReader reader = opened.get();
+        try {
+            Dimension dimension = new Dimension(reader.getWidth(0), reader.getHeight(0));
+            if (!withinPixelLimit(dimension)) {
+                log.warn("Image {} is {}x{} pixels, exceeding the limit of {}; skipping variants",
+                        key, dimension.width, dimension.height, maxPixels);
+                return null;
+            }
+            if (Math.max(dimension.width, dimension.height) <= sizes.get(0)) {
+                return null;
+            }
+            return reader.read(0);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    /**
+     * 이미지를 디코딩하지 않고 헤더에서 픽셀 크기만 읽습니다.
+     *
+     * @return 픽셀 크기 (ImageIO가 읽을 수 없는 형식이면 비어 있음)
+     */
+    private Optional<Dimension> readDimension(InputStream in) throws IOException {
+        try (ImageInputStream image = ImageIO.createImageInputStream(in)) {
+            Optional<ImageReader> opened = openReader(image);
+            if (opened.isEmpty()) {
+                return Optional.empty();
+            }
+            ImageReader reader = opened.get();
+            try {
+                return Optional.of(new Dimension(reader.getWidth(0), reader.getHeight(0)));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 이미지 형식에 맞는 리더를 찾아 입력을 연결합니다.
+     */
+    private Optional<ImageReader> openReader(ImageInputStream image) {
+        if (image == null) {
+            return Optional.empty();
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(image);
+        if (!readers.hasNext()) {
+            return Optional.empty();
+        }
+        ImageReader reader = readers.next();
+        reader.setInput(image, true, true);
+        return Optional.of(reader);
+    }
+
+    private boolean withinPixelLimit(Dimension dimension) {
+        return (long) dimension.width * dimension.height <= maxPixels;
+    }
+
+    /**
+     * 가로세로 비율을 유지하며 긴 변이 size가 되도록 이미지를 축소합니다.
+     */
+    private BufferedImage scale(BufferedImage source, int size) {
+        double ratio = (double) size / Math.max(source.getWidth(), source.getHeight());
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+        boolean alpha = source.getColorModel().hasAlpha();
+
+        BufferedImage target = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * 투명도가 있으면 PNG, 없으면 JPEG로 인코딩합니다.
+     */
+    private byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, image.getColorModel().hasAlpha() ? "png" : "jpg", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,384 @@
+package com.example.meeting.service;
+
+import com.example.meeting.domain.Participant;
+import com.example.meeting.dto.ImportDto;
+import com.example.meeting.dto.ParticipantDto;
+import com.example.meeting.exception.InvalidRequestException;
+import com.example.meeting.repository.MeetingRepository;
+import com.example.meeting.repository.ParticipantRepository;
+import com.example.meeting.util.CsvUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 참여자와 모임 참석 기록을 파일에서 일괄로 가져오는 서비스.
+ * 파일을 한 번에 메모리에 올리지 않고 일정한 크기의 배치로 읽어 처리하며,
+ * 배치마다 행 해석과 검증은 병렬로, 저장은 하나의 트랜잭션으로 수행합니다.
+ * 실패한 행은 건너뛰고 줄 번호와 함께 결과에 보고합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportService {
+
+    /**
+     * 한 트랜잭션에서 처리하는 행 수
+     */
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * 결과에 포함하는 최대 오류 수
+     */
+    private static final int MAX_ERRORS = 1000;
+
+    private final ParticipantRepository participantRepository;
+    private final MeetingRepository meetingRepository;
+    private final ParticipantSearchIndex participantSearchIndex;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 파일의 참여자들을 생성합니다.
+     * 이미 등록되었거나 파일 안에서 중복된 연락처의 행은 실패로 보고합니다.
+     *
+     * @param in 업로드된 파일 입력 스트림
+     * @param format 파일 형식 (CSV는 name, season, position, phone 헤더 필요)
+     * @return 가져오기 결과
+     * @throws IOException 파일을 읽을 수 없는 경우
+     * @throws InvalidRequestException CSV 헤더 행이 없는 경우
+     */
+    public ImportDto.Result importParticipants(InputStream in, FileFormat format) throws IOException {
+        Report report = new Report();
+        Set<String> phones = new HashSet<>();
+        read(in, format, ParticipantDto.Create.class, report, batch -> saveParticipants(batch, phones, report));
+        log.info("Imported {} of {} participants", report.imported, report.total);
+        return report.toResult();
+    }
+
+    /**
+     * 파일의 모임 참석 기록을 추가합니다.
+     * 이미 참석 중인 기록은 그대로 두며, 모임이나 연락처에 해당하는 참여자가 없는 행은 실패로 보고합니다.
+     *
+     * @param in 업로드된 파일 입력 스트림
+     * @param format 파일 형식 (CSV는 meetingId, phone 헤더 필요)
+     * @return 가져오기 결과
+     * @throws IOException 파일을 읽을 수 없는 경우
+     * @throws InvalidRequestException CSV 헤더 행이 없는 경우
+     */
+    public ImportDto.Result importAttendance(InputStream in, FileFormat format) throws IOException {
+        Report report = new Report();
+        read(in, format, ImportDto.AttendanceRow.class, report, batch -> saveAttendance(batch, report));
+        log.info("Imported {} of {} attendance rows", report.imported, report.total);
+        return report.toResult();
+    }
+
+    /**
+     * 파일을 줄 단위로 읽어 배치마다 해석과 검증을 마친 행을 전달합니다.
+     * 빈 줄은 건너뛰며, 줄 번호는 CSV 헤더를 포함한 파일 기준입니다.
+     */
+    private <T> void read(InputStream in, FileFormat format, Class<T> type, Report report,
+                          Consumer<List<Row<T>>> handler) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        long lineNumber = 0;
+        Function<String, T> parser;
+        if (format == FileFormat.CSV) {
+            parser = csvParser(reader.readLine(), type);
+            lineNumber++;
+        } else {
+            parser = line -> jsonParser(stripBom(line), type);
+        }
+
+        List<Row<String>> lines = new ArrayList<>(BATCH_SIZE);
+        String text;
+        while ((text = reader.readLine()) != null) {
+            lineNumber++;
+            if (text.isBlank()) {
+                continue;
+            }
+            lines.add(new Row<>(lineNumber, text));
+            if (lines.size() == BATCH_SIZE) {
+                handler.accept(parse(lines, parser, report));
+                lines = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        if (!lines.isEmpty()) {
+            handler.accept(parse(lines, parser, report));
+        }
+    }
+
+    /**
+     * 배치의 각 줄을 병렬로 해석하고 검증합니다. 결과는 파일 순서를 유지합니다.
+     */
+    private <T> List<Row<T>> parse(List<Row<String>> lines, Function<String, T> parser, Report report) {
+        report.read(lines.size());
+        return lines.parallelStream()
+                .map(line -> parseRow(line, parser, report))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private <T> Row<T> parseRow(Row<String> line, Function<String, T> parser, Report report) {
+        T value;
+        try {
+            value = parser.apply(line.value());
+        } catch (IllegalArgumentException e) {
+            report.fail(line.line(), "행을 해석할 수 없습니다: " + e.getMessage());
+            return null;
+        }
+
+        Set<ConstraintViolation<T>> violations = validator.validate(value);
+        if (!violations.isEmpty()) {
+            report.fail(line.line(), violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return null;
+        }
+        return new Row<>(line.line(), value);
+    }
+
+    /**
+     * CSV 헤더 행의 열 이름을 필드 이름으로 사용하는 파서를 만듭니다.
+     */
+    private <T> Function<String, T> csvParser(String header, Class<T> type) {
+        if (header == null || header.isBlank()) {
+            throw new InvalidRequestException("CSV 파일에 헤더 행이 없습니다.");
+        }
+        List<String> columns = CsvUtil.parseRow(stripBom(header)).stream()
+                .map(String::trim)
+                .toList();
+
+        return line -> {
+            List<String> values = CsvUtil.parseRow(line);
+            if (values.size() != columns.size()) {
+                throw new IllegalArgumentException("열 개수가 헤더와 다릅니다.");
+            }
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                fields.put(columns.get(i), values.get(i).trim());
+            }
+            return objectMapper.convertValue(fields, type);
+        };
+    }
+
+    private <T> T jsonParser(String line, Class<T> type) {
+        try {
+            T value = objectMapper.readValue(line, type);
+            if (value == null) {
+                throw new IllegalArgumentException("값이 없습니다.");
+            }
+            return value;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * 배치의 참여자를 저장합니다.
+     * 앞선 배치에서 저장했거나 배치 안에서 앞서 나온 연락처의 행은 파일 안의 중복으로 보고합니다.
+     * 그 사이 다른 요청이 같은 연락처를 등록해 제약 조건을 위반하면 배치가 롤백되므로,
+     * 행마다 별도의 트랜잭션으로 다시 저장하여 충돌한 행만 실패로 보고합니다.
+     *
+     * @param phones 이 파일에서 지금까지 저장이 커밋된 연락처
+     */
+    private void saveParticipants(List<Row<ParticipantDto.Create>> batch, Set<String> phones, Report report) {
+        List<Row<ParticipantDto.Create>> rows = new ArrayList<>(batch.size());
+        Set<String> batchPhones = new HashSet<>();
+        for (Row<ParticipantDto.Create> row : batch) {
+            String phone = row.value().getPhone();
+            if (!phones.contains(phone) && batchPhones.add(phone)) {
+                rows.add(row);
+            } else {
+                report.fail(row.line(), "파일 안에서 중복된 연락처입니다: " + phone);
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            insertParticipants(rows, phones, report);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Failed to import participant batch, retrying row by row: {}",
+                    e.getMostSpecificCause().getMessage());
+            for (Row<ParticipantDto.Create> row : rows) {
+                try {
+                    insertParticipants(List.of(row), phones, report);
+                } catch (DataIntegrityViolationException rowError) {
+                    report.fail(row.line(), "저장하지 못했습니다. 같은 연락처가 동시에 등록되었을 수 있습니다.");
+                }
+            }
+        }
+    }
+
+    /**
+     * 하나의 트랜잭션에서 참여자를 저장하고, 커밋된 뒤에만 저장한 연락처를 파일 안의 중복 확인에 추가합니다.
+     * 기존 연락처는 한 번의 IN 조회로 확인하여 실패로 보고하고, 새 참여자는 JDBC 배치 삽입으로 저장합니다.
+     *
+     * @throws DataIntegrityViolationException 다른 요청이 같은 연락처를 동시에 등록한 경우 (트랜잭션은 롤백됨)
+     */
+    private void insertParticipants(List<Row<ParticipantDto.Create>> rows, Set<String> phones, Report report) {
+        List<Row<ParticipantDto.Create>> duplicated = new ArrayList<>();
+        List<String> saved = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            duplicated.clear();
+            saved.clear();
+            Set<String> existing = new HashSet<>(participantRepository.findPhonesByPhoneIn(
+                    rows.stream().map(row -> row.value().getPhone()).toList()));
+
+            List<Participant> participants = new ArrayList<>(rows.size());
+            for (Row<ParticipantDto.Create> row : rows) {
+                ParticipantDto.Create dto = row.value();
+                if (existing.contains(dto.getPhone())) {
+                    duplicated.add(row);
+                    continue;
+                }
+                participants.add(Participant.builder()
+                        .name(dto.getName())
+                        .position(dto.getPosition())
+                        .season(dto.getSeason())
+                        .phone(dto.getPhone())
+                        .build());
+            }
+            if (participants.isEmpty()) {
+                return;
+            }
+
+            participantRepository.saveAll(participants);
+            participantRepository.flush();
+            cacheInvalidationService.participantsCreated();
+            participantSearchIndex.refreshAfterCommit(participants.stream().map(Participant::getId).toList());
+            participants.forEach(participant -> saved.add(participant.getPhone()));
+        });
+        duplicated.forEach(row -> report.fail(row.line(), "이미 등록된 연락처입니다: " + row.value().getPhone()));
+        phones.addAll(saved);
+        report.imported(saved.size());
+    }
+
+    /**
+     * 배치의 참석 기록을 저장합니다.
+     * 연락처와 모임은 배치 전체에 대해 각각 한 번의 IN 조회로 확인하고,
+     * 조인 테이블에는 모임마다 한 번의 INSERT ... SELECT로 기록합니다.
+     */
+    private void saveAttendance(List<Row<ImportDto.AttendanceRow>> batch, Report report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Set<String> phones = batch.stream().map(row -> row.value().getPhone()).collect(Collectors.toSet());
+        Set<UUID> meetingIds = batch.stream().map(row -> row.value().getMeetingId()).collect(Collectors.toSet());
+
+        List<ImportDto.RowError> errors = new ArrayList<>();
+        Integer saved = transactionTemplate.execute(status -> {
+            errors.clear();
+            Map<String, UUID> participantIds = participantRepository.findPhoneViewsByPhoneIn(phones).stream()
+                    .collect(Collectors.toMap(ParticipantRepository.PhoneView::getPhone, ParticipantRepository.PhoneView::getId));
+            Set<UUID> meetings = new HashSet<>(meetingRepository.findIdsByIdIn(meetingIds));
+
+            Map<UUID, Set<UUID>> attendance = new LinkedHashMap<>();
+            int count = 0;
+            for (Row<ImportDto.AttendanceRow> row : batch) {
+                ImportDto.AttendanceRow value = row.value();
+                UUID participantId = participantIds.get(value.getPhone());
+                if (!meetings.contains(value.getMeetingId())) {
+                    errors.add(new ImportDto.RowError(row.line(), "모임을 찾을 수 없습니다: " + value.getMeetingId()));
+                } else if (participantId == null) {
+                    errors.add(new ImportDto.RowError(row.line(), "참여자를 찾을 수 없습니다: " + value.getPhone()));
+                } else {
+                    attendance.computeIfAbsent(value.getMeetingId(), k -> new LinkedHashSet<>()).add(participantId);
+                    count++;
+                }
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            List<UUID> changed = new ArrayList<>();
+            attendance.forEach((meetingId, ids) -> {
+                if (meetingRepository.addParticipants(meetingId, ids) > 0) {
+                    meetingRepository.touch(meetingId, now);
+                    changed.add(meetingId);
+                }
+            });
+            if (!changed.isEmpty()) {
+                cacheInvalidationService.meetingsChanged(changed);
+            }
+            return count;
+        });
+        errors.forEach(error -> report.fail(error.getLine(), error.getMessage()));
+        report.imported(saved != null ? saved : 0);
+    }
+
+    private static String stripBom(String text) {
+        return !text.isEmpty() && text.charAt(0) == CsvUtil.BOM ? text.substring(1) : text;
+    }
+
+    /**
+     * 줄 번호가 붙은 행.
+     */
+    private record Row<T>(long line, T value) {
+    }
+
+    /**
+     * 가져오기 진행 상황. 병렬 검증 중에도 기록되므로 동기화됩니다.
+     */
+    private static final class Report {
+
+        private int total;
+        private int imported;
+        private int failed;
+        private final List<ImportDto.RowError> errors = new ArrayList<>();
+
+        private synchronized void read(int count) {
+            total += count;
+        }
+
+        private synchronized void imported(int count) {
+            imported += count;
+        }
+
+        private synchronized void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(new ImportDto.RowError(line, message));
+            }
+        }
+
+        private synchronized ImportDto.Result toResult() {
+            errors.sort(Comparator.comparingLong(ImportDto.RowError::getLine));
+            return ImportDto.Result.builder()
+                    .total(total)
+                    .imported(imported)
+                    .failed(failed)
+                    .errors(List.copyOf(errors))
+                    .build();
+        }
+    }
+}
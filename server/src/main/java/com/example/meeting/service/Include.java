@@ -0,0 +1,42 @@
+package com.example.meeting.service;
+
+import com.example.meeting.exception.InvalidRequestException;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 조회 응답에 선택적으로 포함할 연관 데이터.
+ * include 요청 파라미터로 지정하며 (예: include=profile), 지정하지 않은 연관 데이터는 조회하지 않습니다.
+ */
+public enum Include {
+
+    PROFILE;
+
+    /**
+     * include 파라미터 값들을 변환합니다.
+     *
+     * @param values 파라미터 값 목록 (선택 사항)
+     * @return 포함할 연관 데이터 집합 (값이 없으면 빈 집합)
+     * @throws InvalidRequestException 지원하지 않는 값이 포함된 경우
+     */
+    public static Set<Include> from(Collection<String> values) {
+        Set<Include> includes = EnumSet.noneOf(Include.class);
+        if (values == null) {
+            return includes;
+        }
+        for (String value : values) {
+            if (value.isBlank()) {
+                continue;
+            }
+            try {
+                includes.add(Include.valueOf(value.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("지원하지 않는 include 값입니다: " + value);
+            }
+        }
+        return includes;
+    }
+}
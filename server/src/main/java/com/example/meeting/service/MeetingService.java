@@ -1,18 +1,36 @@
 package com.example.meeting.service;
 
+import com.example.meeting.config.CacheConfig;
 import com.example.meeting.domain.Meeting;
 import com.example.meeting.domain.Participant;
 import com.example.meeting.dto.MeetingDto;
+import com.example.meeting.dto.PageDto;
+import com.example.meeting.dto.ParticipantDto;
 import com.example.meeting.exception.ResourceNotFoundException;
 import com.example.meeting.repository.MeetingRepository;
 import com.example.meeting.repository.ParticipantRepository;
 import com.example.meeting.util.DateTimeUtil;
+import com.example.meeting.util.PageUtil;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -22,32 +40,113 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(value = "service.method", histogram = true)
 public class MeetingService {
 
     private final MeetingRepository meetingRepository;
     private final ParticipantRepository participantRepository;
+    private final CacheInvalidationService cacheInvalidationService;
 
     /**
      * 최근 수정된 순서로 모든 모임을 조회합니다.
+     * 참여자(프로필을 포함하면 프로필까지)를 페치 조인하여 한 번의 쿼리로 조회합니다.
      *
+     * @param includeProfile 참여자 프로필 포함 여부
+     * @param etag 본문 조회 전에 계산한 응답 ETag (캐시 키)
      * @return 모든 모임 응답 DTO 목록
      */
-    public List<MeetingDto.Response> findAll() {
-        return meetingRepository.findAllByOrderByUpdatedAtDesc().stream()
-                .map(MeetingDto.Response::from)
+    @Cacheable(value = CacheConfig.MEETING_LIST, sync = true, key = "{#includeProfile, #etag}")
+    public List<MeetingDto.Response> findAll(boolean includeProfile, String etag) {
+        List<Meeting> meetings = includeProfile
+                ? meetingRepository.findAllWithProfilesByOrderByUpdatedAtDesc()
+                : meetingRepository.findAllByOrderByUpdatedAtDesc();
+        return meetings.stream()
+                .map(meeting -> MeetingDto.Response.from(meeting, includeProfile))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 최근 수정된 순서로 모든 모임의 요약 정보를 조회합니다.
+     *
+     * @param etag 본문 조회 전에 계산한 응답 ETag (캐시 키)
+     * @return 모든 모임 요약 DTO 목록
+     */
+    @Cacheable(value = CacheConfig.MEETING_SUMMARIES, sync = true, key = "#etag")
+    public List<MeetingDto.Summary> findAllSummaries(String etag) {
+        return meetingRepository.findAllSummaries().stream()
+                .map(MeetingDto.Summary::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 최근 수정된 순서로 한 페이지 분량의 모임을 조회합니다.
+     * 커서가 주어지면 해당 위치 이후부터 키셋 방식으로 조회합니다.
+     *
+     * @param page 페이지 번호 (선택 사항, 커서와 함께 사용할 수 없음)
+     * @param size 페이지 크기
+     * @param cursor 이전 페이지 응답의 nextCursor (선택 사항)
+     * @param includeProfile 참여자 프로필 포함 여부
+     * @return 모임 페이지 응답 DTO
+     * @throws com.example.meeting.exception.InvalidRequestException 페이지 파라미터가 올바르지 않은 경우
+     */
+    public PageDto.Response<MeetingDto.Response> findPage(Integer page, int size, String cursor,
+                                                        boolean includeProfile) {
+        Pageable pageable = PageUtil.pageRequest(page, size, cursor);
+
+        Slice<UUID> ids;
+        if (cursor != null) {
+            PageUtil.Cursor after = PageUtil.decodeCursor(cursor);
+            ids = meetingRepository.findIdSliceAfter(after.getUpdatedAt(), after.getId(), pageable);
+        } else {
+            ids = meetingRepository.findIdSlice(pageable);
+        }
+
+        Slice<Meeting> slice = new SliceImpl<>(getMeetingsInOrder(ids.getContent(), includeProfile),
+                pageable, ids.hasNext());
+        return PageDto.Response.from(slice, cursor != null ? null : pageable.getPageNumber(),
+                meeting -> MeetingDto.Response.from(meeting, includeProfile), Meeting::getUpdatedAt, Meeting::getId);
+    }
+
     /**
      * ID로 모임을 조회합니다.
      *
      * @param id 모임 ID
+     * @param includeProfile 참여자 프로필 포함 여부
+     * @param etag 본문 조회 전에 계산한 응답 ETag (캐시 키)
      * @return 모임 응답 DTO
      * @throws ResourceNotFoundException 모임을 찾을 수 없는 경우
      */
-    public MeetingDto.Response findById(String id) {
-        Meeting meeting = getMeetingById(id);
-        return MeetingDto.Response.from(meeting);
+    @Cacheable(value = CacheConfig.MEETINGS, sync = true, key = "{#id, #includeProfile, #etag}")
+    public MeetingDto.Response findById(UUID id, boolean includeProfile, String etag) {
+        Meeting meeting = getMeetingById(id, includeProfile);
+        return MeetingDto.Response.from(meeting, includeProfile);
+    }
+
+    /**
+     * 모임에 참석하지 않는 참여자를 기수, 이름 순으로 한 페이지 분량만 조회합니다.
+     * 전체 참여자 목록 대신 데이터베이스의 안티 조인으로 계산합니다.
+     * 프로필을 포함하면 같은 쿼리에서 프로필을 페치 조인합니다.
+     *
+     * @param id 모임 ID
+     * @param query 이름 또는 기수 검색어 (선택 사항)
+     * @param page 페이지 번호 (선택 사항)
+     * @param size 페이지 크기
+     * @param includeProfile 프로필 포함 여부
+     * @return 미참석자 페이지 응답 DTO
+     * @throws ResourceNotFoundException 모임을 찾을 수 없는 경우
+     * @throws com.example.meeting.exception.InvalidRequestException 페이지 파라미터가 올바르지 않은 경우
+     */
+    public PageDto.Response<ParticipantDto.Response> findNonAttendees(UUID id, String query, Integer page, int size,
+                                                                    boolean includeProfile) {
+        Pageable pageable = PageUtil.pageRequest(page, size, null);
+        validateMeetingExists(id);
+
+        String pattern = StringUtils.hasText(query) ? "%" + escapeLike(query.trim().toLowerCase()) + "%" : null;
+        Slice<Participant> slice = includeProfile
+                ? participantRepository.findNonAttendeeSliceWithProfiles(id, pattern, pageable)
+                : participantRepository.findNonAttendeeSlice(id, pattern, pageable);
+        return PageDto.Response.from(slice, pageable.getPageNumber(),
+                participant -> ParticipantDto.Response.from(participant, includeProfile));
     }
 
     /**
@@ -65,17 +164,18 @@ public class MeetingService {
                 .desc(dto.getDesc())
                 .date(DateTimeUtil.parseIsoString(dto.getDate()))
                 .location(dto.getLocation())
-                .participants(participants)
+                .participants(new LinkedHashSet<>(participants))
                 .build();
 
         Meeting saved = meetingRepository.save(meeting);
+        cacheInvalidationService.meetingChanged(saved.getId());
         return MeetingDto.Response.from(saved);
     }
 
     /**
      * 기존 모임을 수정합니다.
      * DTO에서 null이 아닌 필드만 수정됩니다.
-     * 참여자 목록이 제공되면 완전히 대체됩니다.
+     * 참여자 목록이 제공되면 완전히 대체되며, 조인 테이블에는 변경된 참여자만 반영됩니다.
      *
      * @param id 모임 ID
      * @param dto 모임 수정 DTO
@@ -83,7 +183,7 @@ public class MeetingService {
      * @throws ResourceNotFoundException 모임을 찾을 수 없는 경우
      */
     @Transactional
-    public MeetingDto.Response update(String id, MeetingDto.Update dto) {
+    public MeetingDto.Response update(UUID id, MeetingDto.Update dto) {
         Meeting meeting = getMeetingById(id);
 
         if (dto.getTitle() != null) {
@@ -99,15 +199,60 @@ public class MeetingService {
             meeting.setLocation(dto.getLocation());
         }
         if (dto.getParticipantIds() != null) {
-            List<Participant> participants = getParticipantsByIds(dto.getParticipantIds());
-            meeting.getParticipants().clear();
+            Set<Participant> participants = new LinkedHashSet<>(getParticipantsByIds(dto.getParticipantIds()));
+            meeting.getParticipants().retainAll(participants);
             meeting.getParticipants().addAll(participants);
         }
 
         Meeting savedMeeting = meetingRepository.save(meeting);
+        cacheInvalidationService.meetingChanged(id);
         return MeetingDto.Response.from(savedMeeting);
     }
 
+    /**
+     * 모임에 참여자들을 추가합니다.
+     * 이미 참여 중인 참여자는 무시하며, 조인 테이블에는 새로 추가되는 행만 기록합니다.
+     *
+     * @param id 모임 ID
+     * @param participantIds 추가할 참여자 ID 목록
+     * @return 수정된 모임 응답 DTO
+     * @throws ResourceNotFoundException 모임 또는 참여자를 찾을 수 없는 경우
+     */
+    @Transactional
+    public MeetingDto.Response addParticipants(UUID id, List<UUID> participantIds) {
+        validateMeetingExists(id);
+        Set<UUID> ids = new LinkedHashSet<>(participantIds);
+        if (participantRepository.countByIdIn(ids) != ids.size()) {
+            throw new ResourceNotFoundException("참여자를 찾을 수 없습니다.");
+        }
+
+        if (meetingRepository.addParticipants(id, ids) > 0) {
+            meetingRepository.touch(id, LocalDateTime.now());
+            cacheInvalidationService.meetingChanged(id);
+        }
+        return MeetingDto.Response.from(getMeetingById(id));
+    }
+
+    /**
+     * 모임에서 참여자들을 제외합니다.
+     * 조인 테이블에서 해당 행만 삭제합니다.
+     *
+     * @param id 모임 ID
+     * @param participantIds 제외할 참여자 ID 목록
+     * @return 수정된 모임 응답 DTO
+     * @throws ResourceNotFoundException 모임을 찾을 수 없는 경우
+     */
+    @Transactional
+    public MeetingDto.Response removeParticipants(UUID id, List<UUID> participantIds) {
+        validateMeetingExists(id);
+
+        if (!participantIds.isEmpty() && meetingRepository.removeParticipants(id, new LinkedHashSet<>(participantIds)) > 0) {
+            meetingRepository.touch(id, LocalDateTime.now());
+            cacheInvalidationService.meetingChanged(id);
+        }
+        return MeetingDto.Response.from(getMeetingById(id));
+    }
+
     /**
      * 모임을 삭제합니다.
      *
@@ -115,9 +260,26 @@ public class MeetingService {
      * @throws ResourceNotFoundException 모임을 찾을 수 없는 경우
      */
     @Transactional
-    public void delete(String id) {
+    public void delete(UUID id) {
         getMeetingById(id);
         meetingRepository.deleteById(id);
+        cacheInvalidationService.meetingChanged(id);
+    }
+
+    /**
+     * 여러 모임을 한 트랜잭션에서 삭제합니다.
+     * 엔티티를 로딩하지 않고 참여 기록과 모임을 집합 단위로 삭제합니다.
+     * 존재하지 않는 ID는 무시합니다.
+     *
+     * @param ids 모임 ID 목록
+     * @return 삭제된 모임 수
+     */
+    @Transactional
+    public int deleteAll(List<UUID> ids) {
+        Set<UUID> distinctIds = new LinkedHashSet<>(ids);
+        meetingRepository.deleteMeetingParticipantsByMeetingIdIn(distinctIds);
+        cacheInvalidationService.meetingsChanged(distinctIds);
+        return meetingRepository.deleteByIdIn(distinctIds);
     }
 
     /**
@@ -127,9 +289,64 @@ public class MeetingService {
      * @return 모임 엔티티
      * @throws ResourceNotFoundException 모임을 찾을 수 없는 경우
      */
-    private Meeting getMeetingById(String id) {
-        return meetingRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("모임을 찾을 수 없습니다."));
+    private Meeting getMeetingById(UUID id) {
+        return getMeetingById(id, false);
+    }
+
+    /**
+     * ID로 모임을 참여자와 함께 조회하거나 찾을 수 없는 경우 예외를 발생시킵니다.
+     *
+     * @param id 모임 ID
+     * @param includeProfile 참여자 프로필까지 함께 조회할지 여부
+     * @return 모임 엔티티
+     * @throws ResourceNotFoundException 모임을 찾을 수 없는 경우
+     */
+    private Meeting getMeetingById(UUID id, boolean includeProfile) {
+        Optional<Meeting> meeting = includeProfile
+                ? meetingRepository.findWithParticipantProfilesById(id)
+                : meetingRepository.findWithParticipantsById(id);
+        return meeting.orElseThrow(() -> new ResourceNotFoundException("모임을 찾을 수 없습니다."));
+    }
+
+    /**
+     * 모임이 존재하는지 확인하고 없으면 예외를 발생시킵니다.
+     *
+     * @param id 모임 ID
+     * @throws ResourceNotFoundException 모임을 찾을 수 없는 경우
+     */
+    private void validateMeetingExists(UUID id) {
+        if (!meetingRepository.existsById(id)) {
+            throw new ResourceNotFoundException("모임을 찾을 수 없습니다.");
+        }
+    }
+
+    /**
+     * LIKE 패턴의 와일드카드 문자를 이스케이프합니다.
+     */
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * ID 목록의 모임들을 참여자(필요하면 프로필까지)와 함께 한 번에 조회하고 ID 목록의 순서대로 정렬합니다.
+     *
+     * @param ids 모임 ID 목록
+     * @param includeProfile 참여자 프로필까지 함께 조회할지 여부
+     * @return ID 목록 순서의 모임 엔티티 목록
+     */
+    private List<Meeting> getMeetingsInOrder(List<UUID> ids, boolean includeProfile) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Meeting> loaded = includeProfile
+                ? meetingRepository.findWithParticipantProfilesByIdIn(ids)
+                : meetingRepository.findWithParticipantsByIdIn(ids);
+        Map<UUID, Meeting> meetings = loaded.stream()
+                .collect(Collectors.toMap(Meeting::getId, Function.identity(), (first, second) -> first));
+        return ids.stream()
+                .map(meetings::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -138,7 +355,7 @@ public class MeetingService {
      * @param ids 참여자 ID 목록
      * @return 참여자 엔티티 목록
      */
-    private List<Participant> getParticipantsByIds(List<String> ids) {
+    private List<Participant> getParticipantsByIds(List<UUID> ids) {
         if (ids == null || ids.isEmpty()) {
             return Collections.emptyList();
         }
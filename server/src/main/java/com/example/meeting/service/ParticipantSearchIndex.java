@@ -0,0 +1,542 @@
+package com.example.meeting.service;
+
+import com.example.meeting.repository.ParticipantRepository;
+import com.example.meeting.util.UuidUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 참여자 이름과 기수 검색을 위한 메모리 색인.
+ * 이름, 기수, 이름의 초성을 1글자/2글자 단위(n-gram)로 색인하여 테이블을 스캔하지 않고 후보를 찾습니다.
+ * 한글은 음절 단위로 나누어지므로 부분 이름 검색이 가능하며, "ㅎㄱㄷ"처럼 초성만으로도 검색할 수 있습니다.
+ * 웹 서버가 요청을 받기 전에 전체를 한 번 적재하고, 이후에는 참여자 변경 트랜잭션이 커밋될 때마다
+ * 해당 항목만 별도의 갱신 스레드에서 갱신합니다.
+ * 항목은 이름, ID 순으로 미리 정렬해 두므로 검색 결과를 정렬하지 않고 앞에서부터 페이지 분량만 골라냅니다.
+ */
+@Slf4j
+@Component
+public class ParticipantSearchIndex implements SmartInitializingSingleton, DisposableBean {
+
+    /**
+     * 검색 결과 순위 수 (Entry.rank의 최댓값 + 1)
+     */
+    private static final int RANKS = 6;
+
+    /**
+     * 같은 순위 안에서의 노출 순서
+     */
+    private static final Comparator<Entry> ORDER = Comparator.<Entry, String>comparing(entry -> entry.name)
+            .thenComparing(entry -> entry.id, UuidUtil.ORDER);
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    private static final int SYLLABLES_PER_CHOSUNG = 588;
+
+    /**
+     * 갱신이 실패한 뒤 전체 재적재를 다시 시도하기까지의 대기 시간 (초)
+     */
+    private static final long REBUILD_RETRY_SECONDS = 30;
+
+    private final ParticipantRepository participantRepository;
+    private final TransactionTemplate readTransaction;
+
+    /**
+     * 커밋된 변경을 색인에 반영하는 단일 스레드. 데이터베이스 연결은 한 번에 하나만 사용합니다.
+     */
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-index-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 아직 반영하지 않은 참여자 ID. 여러 커밋의 변경을 모아 한 번에 다시 읽습니다.
+     */
+    private final Set<UUID> pending = new HashSet<>();
+
+    /**
+     * 갱신이 실패해 색인이 데이터베이스와 다를 수 있는지 여부
+     */
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 반영한 갱신 수. 잠금 안에서만 읽고 씁니다.
+     */
+    private long generation;
+
+    /**
+     * 마지막 전체 적재 이후 갱신된 참여자 ID와 그 갱신의 세대 번호. 잠금 안에서만 읽고 씁니다.
+     */
+    private final Map<UUID, Long> refreshedAt = new HashMap<>();
+
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final List<Entry> sorted = new ArrayList<>();
+    private final Map<String, Set<UUID>> grams = new HashMap<>();
+    private final Map<String, Set<UUID>> bySeason = new HashMap<>();
+    private final Map<String, Set<UUID>> byPosition = new HashMap<>();
+
+    public ParticipantSearchIndex(ParticipantRepository participantRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.participantRepository = participantRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 웹 서버가 시작되기 전에 모든 참여자를 색인에 적재합니다.
+     * 적재가 실패하면 애플리케이션은 그대로 시작하고 갱신 스레드에서 다시 시도합니다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    @Override
+    public void destroy() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * 모든 참여자를 다시 읽어 색인을 새로 만듭니다.
+     *
+     * 전체를 읽는 동안에도 갱신 스레드는 계속 변경을 반영하므로, 읽기 시작할 때의 세대 번호를 기록해 두고
+     * 그 이후에 갱신된 참여자는 (방금 읽은 전체 목록보다 나중에 읽은 값이므로) 현재 색인 항목을 유지합니다.
+     */
+    public synchronized void rebuild() {
+        dirty.set(false);
+        long snapshotGeneration;
+        lock.readLock().lock();
+        try {
+            snapshotGeneration = generation;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<ParticipantRepository.SearchView> views;
+        try {
+            views = readTransaction.execute(status -> participantRepository.findAllSearchViews());
+        } catch (RuntimeException e) {
+            markDirty("Failed to rebuild search index", e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            List<Entry> newer = new ArrayList<>();
+            refreshedAt.forEach((id, refreshed) -> {
+                Entry entry = entries.get(id);
+                if (refreshed > snapshotGeneration && entry != null) {
+                    newer.add(entry);
+                }
+            });
+            entries.clear();
+            sorted.clear();
+            grams.clear();
+            bySeason.clear();
+            byPosition.clear();
+            for (ParticipantRepository.SearchView v : views) {
+                Long refreshed = refreshedAt.get(v.getId());
+                if (refreshed == null || refreshed <= snapshotGeneration) {
+                    index(new Entry(v.getId(), v.getName(), v.getPosition(), v.getSeason()));
+                }
+            }
+            newer.forEach(this::index);
+            refreshedAt.clear();
+            sorted.addAll(entries.values());
+            sorted.sort(ORDER);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed {} participants for search", views.size());
+    }
+
+    /**
+     * 현재 트랜잭션이 끝나고 커밋되었으면 참여자들의 색인 항목을 데이터베이스의 현재 값으로 갱신합니다.
+     * 생성, 수정, 삭제 모두 이 메서드로 반영하며, 행이 없으면 색인에서 제거합니다.
+     *
+     * ID만 대기열에 넣고 실제 조회와 반영은 단일 갱신 스레드에서 하므로, 커밋한 트랜잭션의 연결을 잡은 채
+     * 다른 연결을 얻거나 검색을 막지 않습니다. 갱신 스레드는 커밋된 행을 다시 읽어 반영하며, 나중에 반영하는 쪽이
+     * 항상 더 최신 상태를 읽으므로 색인은 마지막 커밋 상태로 수렴합니다.
+     *
+     * @param ids 변경된 참여자 ID 목록
+     */
+    public void refreshAfterCommit(Collection<UUID> ids) {
+        List<UUID> copy = List.copyOf(ids);
+        if (copy.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(copy);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    enqueue(copy);
+                }
+            }
+        });
+    }
+
+    /**
+     * 검색어와 필터에 맞는 참여자 ID를 순위대로 조회합니다.
+     * 이름이 검색어와 일치, 이름이 검색어로 시작, 이름에 포함, 초성 일치, 기수에 포함 순으로 정렬되며
+     * 같은 순위에서는 이름, ID 순으로 정렬됩니다.
+     *
+     * @param query 이름 또는 기수 검색어 (선택 사항)
+     * @param seasonFilter 기수 필터 (선택 사항, 정확히 일치)
+     * @param positionFilter 직책 필터 (선택 사항, 정확히 일치)
+     * @param offset 건너뛸 결과 수
+     * @param limit 반환할 최대 결과 수
+     * @return 순위대로 정렬된 참여자 ID 목록
+     */
+    public List<UUID> search(String query, String seasonFilter, String positionFilter, long offset, int limit) {
+        String q = normalize(query);
+        String season = StringUtils.hasText(seasonFilter) ? seasonFilter : null;
+        String position = StringUtils.hasText(positionFilter) ? positionFilter : null;
+
+        int needed = (int) Math.min(Integer.MAX_VALUE, offset + limit);
+        lock.readLock().lock();
+        try {
+            Collection<UUID> candidates = candidates(q, season, position);
+            List<List<Entry>> buckets = new ArrayList<>(RANKS);
+            for (int i = 0; i < RANKS; i++) {
+                buckets.add(new ArrayList<>());
+            }
+
+            if (candidates.size() * 8L < sorted.size()) {
+                // 후보가 적으면 후보만 정렬
+                List<Entry> matched = new ArrayList<>(candidates.size());
+                for (UUID id : candidates) {
+                    Entry entry = entries.get(id);
+                    if (entry != null) {
+                        matched.add(entry);
+                    }
+                }
+                matched.sort(ORDER);
+                select(matched, null, q, season, position, needed, buckets);
+            } else {
+                // 후보가 많으면 (빈 검색어, 한 글자 검색어 등) 정렬된 전체 항목을 앞에서부터 훑고 페이지가 차면 멈춤
+                Set<UUID> filter = candidates == entries.keySet() ? null
+                        : candidates instanceof Set<UUID> ids ? ids : new HashSet<>(candidates);
+                select(sorted, filter, q, season, position, needed, buckets);
+            }
+
+            return buckets.stream()
+                    .flatMap(List::stream)
+                    .skip(offset)
+                    .limit(limit)
+                    .map(entry -> entry.id)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 이름, ID 순으로 정렬된 항목을 순위별 버킷에 나누어 담습니다.
+     * 버킷마다 필요한 개수까지만 담으며, 가장 높은 순위의 버킷이 차면 이후 항목은 앞 페이지에 들어올 수 없으므로 멈춥니다.
+     */
+    private void select(List<Entry> ordered, Set<UUID> filter, String q, String season, String position,
+                        int needed, List<List<Entry>> buckets) {
+        List<Entry> top = buckets.get(0);
+        for (Entry entry : ordered) {
+            if ((filter != null && !filter.contains(entry.id))
+                    || (season != null && !season.equals(entry.season))
+                    || (position != null && !position.equals(entry.position))) {
+                continue;
+            }
+            int rank = entry.rank(q);
+            if (rank < 0) {
+                continue;
+            }
+            List<Entry> bucket = buckets.get(rank);
+            if (bucket.size() < needed) {
+                bucket.add(entry);
+            }
+            if (top.size() >= needed) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 검색어와 필터로 좁힌 후보 ID 집합을 반환합니다.
+     * 검색어가 있으면 검색어의 n-gram 색인 교집합을, 없으면 필터 색인 중 가장 작은 집합을 사용합니다.
+     */
+    private Collection<UUID> candidates(String q, String season, String position) {
+        List<Set<UUID>> sets = new ArrayList<>();
+        if (!q.isEmpty()) {
+            for (String gram : queryGrams(q)) {
+                sets.add(grams.getOrDefault(gram, Set.of()));
+            }
+        }
+        if (season != null) {
+            sets.add(bySeason.getOrDefault(season, Set.of()));
+        }
+        if (position != null) {
+            sets.add(byPosition.getOrDefault(position, Set.of()));
+        }
+        if (sets.isEmpty()) {
+            return entries.keySet();
+        }
+        if (sets.size() == 1) {
+            return sets.get(0);
+        }
+
+        sets.sort(Comparator.comparingInt(Set::size));
+        Set<UUID> smallest = sets.get(0);
+        List<Set<UUID>> others = sets.subList(1, sets.size());
+        List<UUID> result = new ArrayList<>();
+        for (UUID id : smallest) {
+            if (others.stream().allMatch(s -> s.contains(id))) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private void enqueue(List<UUID> ids) {
+        synchronized (pending) {
+            pending.addAll(ids);
+        }
+        refresher.execute(this::refresh);
+    }
+
+    /**
+     * 대기 중인 참여자 행을 잠금 없이 다시 읽은 뒤, 쓰기 잠금을 잡고 색인에 반영합니다.
+     * 읽기에 실패하면 어떤 변경이 빠졌는지 알 수 없으므로 색인을 더럽다고 표시하고 전체를 다시 적재합니다.
+     */
+    private void refresh() {
+        List<UUID> ids;
+        synchronized (pending) {
+            ids = List.copyOf(pending);
+            pending.clear();
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, ParticipantRepository.SearchView> views;
+        try {
+            views = readTransaction.execute(status ->
+                    participantRepository.findSearchViewsByIdIn(ids).stream()
+                            .collect(Collectors.toMap(ParticipantRepository.SearchView::getId, Function.identity())));
+        } catch (RuntimeException e) {
+            markDirty("Failed to refresh search index for " + ids.size() + " participants", e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            generation++;
+            for (UUID id : ids) {
+                Entry old = entries.get(id);
+                if (old != null) {
+                    removeEntry(old);
+                }
+                ParticipantRepository.SearchView view = views.get(id);
+                if (view != null) {
+                    add(new Entry(view.getId(), view.getName(), view.getPosition(), view.getSeason()));
+                }
+                refreshedAt.put(id, generation);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void markDirty(String message, RuntimeException e) {
+        log.warn("{}, rebuilding in {}s: {}", message, REBUILD_RETRY_SECONDS, e.getMessage());
+        dirty.set(true);
+        refresher.schedule(this::rebuildIfDirty, REBUILD_RETRY_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private void rebuildIfDirty() {
+        if (dirty.get()) {
+            rebuild();
+        }
+    }
+
+    private void add(Entry entry) {
+        index(entry);
+        int position = Collections.binarySearch(sorted, entry, ORDER);
+        sorted.add(position < 0 ? -position - 1 : position, entry);
+    }
+
+    private void index(Entry entry) {
+        entries.put(entry.id, entry);
+        for (String gram : entry.grams()) {
+            grams.computeIfAbsent(gram, k -> new HashSet<>()).add(entry.id);
+        }
+        bySeason.computeIfAbsent(entry.season, k -> new HashSet<>()).add(entry.id);
+        byPosition.computeIfAbsent(entry.position, k -> new HashSet<>()).add(entry.id);
+    }
+
+    private void removeEntry(Entry entry) {
+        entries.remove(entry.id);
+        int position = Collections.binarySearch(sorted, entry, ORDER);
+        if (position >= 0) {
+            sorted.remove(position);
+        }
+        for (String gram : entry.grams()) {
+            removePosting(grams, gram, entry.id);
+        }
+        removePosting(bySeason, entry.season, entry.id);
+        removePosting(byPosition, entry.position, entry.id);
+    }
+
+    private void removePosting(Map<String, Set<UUID>> postings, String key, UUID id) {
+        Set<UUID> ids = postings.get(key);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    /**
+     * 검색어를 찾는 데 필요한 n-gram 목록을 반환합니다.
+     * 한 글자 검색어는 1-gram을, 그 외에는 검색어를 덮는 모든 2-gram을 사용합니다.
+     */
+    private static List<String> queryGrams(String q) {
+        if (q.length() == 1) {
+            return List.of(q);
+        }
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i + 2 <= q.length(); i++) {
+            result.add(q.substring(i, i + 2));
+        }
+        return result;
+    }
+
+    /**
+     * 텍스트의 모든 1-gram과 2-gram을 추가합니다.
+     */
+    private static void addGrams(Set<String> target, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            target.add(text.substring(i, i + 1));
+            if (i + 2 <= text.length()) {
+                target.add(text.substring(i, i + 2));
+            }
+        }
+    }
+
+    /**
+     * 검색 비교를 위해 유니코드 정규화, 소문자 변환, 공백 제거를 수행합니다.
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", "");
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꾼 문자열을 반환합니다. 한글이 아닌 문자는 그대로 둡니다.
+     */
+    private static String chosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+                sb.append(CHOSUNG[(c - HANGUL_BEGIN) / SYLLABLES_PER_CHOSUNG]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 색인된 참여자 항목.
+     */
+    private static final class Entry {
+
+        private final UUID id;
+        private final String name;
+        private final String position;
+        private final String season;
+        private final String normalizedName;
+        private final String normalizedSeason;
+        private final String nameChosung;
+
+        private Entry(UUID id, String name, String position, String season) {
+            this.id = id;
+            this.name = name;
+            this.position = position;
+            this.season = season;
+            this.normalizedName = normalize(name);
+            this.normalizedSeason = normalize(season);
+            this.nameChosung = chosung(normalizedName);
+        }
+
+        private Set<String> grams() {
+            Set<String> result = new HashSet<>();
+            addGrams(result, normalizedName);
+            addGrams(result, normalizedSeason);
+            addGrams(result, nameChosung);
+            return result;
+        }
+
+        /**
+         * 검색어에 대한 순위를 반환합니다. 값이 작을수록 먼저 노출되며, 일치하지 않으면 -1입니다.
+         */
+        private int rank(String q) {
+            if (q.isEmpty() || normalizedName.equals(q)) {
+                return 0;
+            }
+            if (normalizedName.startsWith(q)) {
+                return 1;
+            }
+            if (normalizedName.contains(q)) {
+                return 2;
+            }
+            if (nameChosung.startsWith(q)) {
+                return 3;
+            }
+            if (nameChosung.contains(q)) {
+                return 4;
+            }
+            if (normalizedSeason.contains(q)) {
+                return 5;
+            }
+            return -1;
+        }
+    }
+}
@@ -1,16 +1,34 @@
 package com.example.meeting.service;
 
-import com.example.meeting.domain.Meeting;
+import com.example.meeting.config.CacheConfig;
 import com.example.meeting.domain.Participant;
+import com.example.meeting.dto.PageDto;
 import com.example.meeting.dto.ParticipantDto;
 import com.example.meeting.exception.DuplicateResourceException;
+import com.example.meeting.exception.InvalidRequestException;
 import com.example.meeting.exception.ResourceNotFoundException;
 import com.example.meeting.repository.ParticipantRepository;
+import com.example.meeting.repository.ProfileRepository;
+import com.example.meeting.util.PageUtil;
+import com.example.meeting.util.SeasonUtil;
+import com.example.meeting.util.UuidUtil;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -20,31 +38,187 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(value = "service.method", histogram = true)
 public class ParticipantService {
 
     private final ParticipantRepository participantRepository;
+    private final ProfileRepository profileRepository;
+    private final ImageBlobService imageBlobService;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final ParticipantSearchIndex participantSearchIndex;
 
     /**
      * 모든 참여자를 조회합니다.
+     * 프로필을 포함하면 프로필을 페치 조인하여 한 번에 조회하고, 포함하지 않으면 프로필을 읽지 않습니다.
      *
+     * @param includeProfile 프로필 포함 여부
+     * @param etag 본문 조회 전에 계산한 응답 ETag (캐시 키)
      * @return 모든 참여자 응답 DTO 목록
      */
-    public List<ParticipantDto.Response> findAll() {
-        return participantRepository.findAll().stream()
-                .map(ParticipantDto.Response::from)
+    @Cacheable(value = CacheConfig.PARTICIPANT_LIST, sync = true, key = "{#includeProfile, #etag}")
+    public List<ParticipantDto.Response> findAll(boolean includeProfile, String etag) {
+        List<Participant> participants = includeProfile
+                ? participantRepository.findAllWithProfiles()
+                : participantRepository.findAll();
+        return participants.stream()
+                .map(participant -> ParticipantDto.Response.from(participant, includeProfile))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 최근 수정된 순서로 모든 참여자의 요약 정보를 조회합니다.
+     *
+     * @param etag 본문 조회 전에 계산한 응답 ETag (캐시 키)
+     * @return 모든 참여자 요약 DTO 목록
+     */
+    @Cacheable(value = CacheConfig.PARTICIPANT_SUMMARIES, sync = true, key = "#etag")
+    public List<ParticipantDto.Summary> findAllSummaries(String etag) {
+        return participantRepository.findAllSummaries().stream()
+                .map(ParticipantDto.Summary::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 최근 수정된 순서로 한 페이지 분량의 참여자를 조회합니다.
+     * 커서가 주어지면 해당 위치 이후부터 키셋 방식으로 조회합니다.
+     * 프로필을 포함하면 같은 쿼리에서 프로필을 페치 조인합니다.
+     *
+     * @param page 페이지 번호 (선택 사항, 커서와 함께 사용할 수 없음)
+     * @param size 페이지 크기
+     * @param cursor 이전 페이지 응답의 nextCursor (선택 사항)
+     * @param includeProfile 프로필 포함 여부
+     * @return 참여자 페이지 응답 DTO
+     * @throws com.example.meeting.exception.InvalidRequestException 페이지 파라미터가 올바르지 않은 경우
+     */
+    public PageDto.Response<ParticipantDto.Response> findPage(Integer page, int size, String cursor,
+                                                            boolean includeProfile) {
+        Pageable pageable = PageUtil.pageRequest(page, size, cursor);
+
+        Slice<Participant> slice;
+        if (cursor != null) {
+            PageUtil.Cursor after = PageUtil.decodeCursor(cursor);
+            slice = includeProfile
+                    ? participantRepository.findSliceAfterWithProfiles(after.getUpdatedAt(), after.getId(), pageable)
+                    : participantRepository.findSliceAfter(after.getUpdatedAt(), after.getId(), pageable);
+        } else {
+            slice = includeProfile
+                    ? participantRepository.findSliceWithProfiles(pageable)
+                    : participantRepository.findSlice(pageable);
+        }
+
+        return PageDto.Response.from(slice, cursor != null ? null : pageable.getPageNumber(),
+                participant -> ParticipantDto.Response.from(participant, includeProfile),
+                Participant::getUpdatedAt, Participant::getId);
+    }
+
+    /**
+     * 이름 또는 기수로 참여자를 검색합니다.
+     * 메모리 검색 색인에서 순위대로 정렬된 한 페이지 분량의 ID를 찾은 뒤 해당 참여자만 조회합니다.
+     *
+     * @param query 이름 또는 기수 검색어 (선택 사항)
+     * @param season 기수 필터 (선택 사항)
+     * @param position 직책 필터 (선택 사항)
+     * @param page 페이지 번호 (선택 사항)
+     * @param size 페이지 크기
+     * @param includeProfile 프로필 포함 여부
+     * @return 검색 순위대로 정렬된 참여자 페이지 응답 DTO
+     * @throws com.example.meeting.exception.InvalidRequestException 페이지 파라미터가 올바르지 않은 경우
+     */
+    public PageDto.Response<ParticipantDto.Response> search(String query, String season, String position,
+                                                          Integer page, int size, boolean includeProfile) {
+        Pageable pageable = PageUtil.pageRequest(page, size, null);
+
+        List<UUID> ids = participantSearchIndex.search(query, season, position, pageable.getOffset(), size + 1);
+        boolean hasNext = ids.size() > size;
+        List<UUID> pageIds = hasNext ? ids.subList(0, size) : ids;
+
+        Map<UUID, Participant> participants = findAllById(pageIds, includeProfile).stream()
+                .collect(Collectors.toMap(Participant::getId, Function.identity()));
+
+        return PageDto.Response.<ParticipantDto.Response>builder()
+                .content(pageIds.stream()
+                        .map(participants::get)
+                        .filter(Objects::nonNull)
+                        .map(participant -> ParticipantDto.Response.from(participant, includeProfile))
+                        .toList())
+                .page(pageable.getPageNumber())
+                .size(size)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 기수별 참여자 그룹을 기수의 자연 정렬 순서로 조회합니다.
+     * 문자로 시작하는 기수가 먼저, 숫자로 시작하는 기수는 1, 2, 10 순서로 정렬되며
+     * 각 그룹에는 이름 순으로 첫 size명만 포함됩니다.
+     * 기수 수와 관계없이 그룹 집계, 첫 페이지 ID, 참여자 조회의 세 쿼리로 실행됩니다.
+     *
+     * @param size 그룹별 첫 페이지 크기 (0이면 참여자 없이 기수와 인원만 반환)
+     * @param includeProfile 프로필 포함 여부
+     * @return 기수 그룹 응답 DTO 목록
+     * @throws InvalidRequestException 페이지 크기가 올바르지 않은 경우
+     */
+    public List<ParticipantDto.SeasonGroup> findSeasonGroups(int size, boolean includeProfile) {
+        if (size < 0 || size > PageUtil.MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("페이지 크기는 0에서 " + PageUtil.MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        List<ParticipantRepository.SeasonGroupView> groups = participantRepository.findSeasonGroups();
+
+        Map<String, List<ParticipantDto.Response>> firstPages = size == 0 ? Map.of()
+                : findAllById(participantRepository.findFirstIdsPerSeason(size), includeProfile).stream()
+                        .sorted(Comparator.comparing(Participant::getName).thenComparing(Participant::getId, UuidUtil.ORDER))
+                        .collect(Collectors.groupingBy(Participant::getSeason,
+                                Collectors.mapping(participant -> ParticipantDto.Response.from(participant, includeProfile),
+                                        Collectors.toList())));
+
+        return groups.stream()
+                .map(group -> {
+                    List<ParticipantDto.Response> participants = firstPages.getOrDefault(group.getSeason(), List.of());
+                    return ParticipantDto.SeasonGroup.builder()
+                            .season(group.getSeason())
+                            .count(group.getCount())
+                            .participants(participants)
+                            .hasNext(group.getCount() > participants.size())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 한 기수의 참여자를 이름 순으로 한 페이지 분량만 조회합니다.
+     *
+     * @param season 기수
+     * @param page 페이지 번호 (선택 사항)
+     * @param size 페이지 크기
+     * @param includeProfile 프로필 포함 여부
+     * @return 참여자 페이지 응답 DTO
+     * @throws InvalidRequestException 페이지 파라미터가 올바르지 않은 경우
+     */
+    public PageDto.Response<ParticipantDto.Response> findSeasonPage(String season, Integer page, int size,
+                                                                  boolean includeProfile) {
+        Pageable pageable = PageUtil.pageRequest(page, size, null);
+        Slice<Participant> slice = includeProfile
+                ? participantRepository.findSeasonSliceWithProfiles(season, pageable)
+                : participantRepository.findSeasonSlice(season, pageable);
+        return PageDto.Response.from(slice, pageable.getPageNumber(),
+                participant -> ParticipantDto.Response.from(participant, includeProfile));
+    }
+
     /**
      * ID로 참여자를 조회합니다.
+     * 참여자는 2차 캐시에서 읽고, 프로필을 포함하면 프로필만 한 번 더 조회합니다.
      *
      * @param id 참여자 ID
+     * @param includeProfile 프로필 포함 여부
+     * @param etag 본문 조회 전에 계산한 응답 ETag (캐시 키)
      * @return 참여자 응답 DTO
      * @throws ResourceNotFoundException 참여자를 찾을 수 없는 경우
      */
-    public ParticipantDto.Response findById(String id) {
+    @Cacheable(value = CacheConfig.PARTICIPANTS, sync = true, key = "{#id, #includeProfile, #etag}")
+    public ParticipantDto.Response findById(UUID id, boolean includeProfile, String etag) {
         Participant participant = getParticipantById(id);
-        return ParticipantDto.Response.from(participant);
+        return ParticipantDto.Response.from(participant, includeProfile);
     }
 
     /**
@@ -68,9 +242,49 @@ public class ParticipantService {
                 .build();
 
         Participant saved = java.util.Objects.requireNonNull(participantRepository.save(participant));
+        cacheInvalidationService.participantsCreated();
+        participantSearchIndex.refreshAfterCommit(List.of(saved.getId()));
         return ParticipantDto.Response.from(saved);
     }
 
+    /**
+     * 여러 참여자를 한 트랜잭션에서 생성합니다.
+     * 중복 전화번호는 한 번의 IN 조회로 검증하며, 삽입은 JDBC 배치로 실행됩니다.
+     *
+     * @param dtos 참여자 생성 DTO 목록
+     * @return 생성된 참여자 응답 DTO 목록
+     * @throws DuplicateResourceException 전화번호가 이미 존재하거나 요청 안에서 중복되는 경우
+     */
+    @Transactional
+    public List<ParticipantDto.Response> createAll(List<ParticipantDto.Create> dtos) {
+        Set<String> phones = new HashSet<>();
+        for (ParticipantDto.Create dto : dtos) {
+            if (!phones.add(dto.getPhone())) {
+                throw new DuplicateResourceException("이미 등록된 연락처입니다: " + dto.getPhone());
+            }
+        }
+        List<String> duplicated = participantRepository.findPhonesByPhoneIn(phones);
+        if (!duplicated.isEmpty()) {
+            throw new DuplicateResourceException("이미 등록된 연락처입니다: " + String.join(", ", duplicated));
+        }
+
+        List<Participant> participants = dtos.stream()
+                .map(dto -> Participant.builder()
+                        .name(dto.getName())
+                        .position(dto.getPosition())
+                        .season(dto.getSeason())
+                        .phone(dto.getPhone())
+                        .build())
+                .collect(Collectors.toList());
+
+        List<Participant> saved = participantRepository.saveAll(participants);
+        cacheInvalidationService.participantsCreated();
+        participantSearchIndex.refreshAfterCommit(saved.stream().map(Participant::getId).toList());
+        return saved.stream()
+                .map(ParticipantDto.Response::from)
+                .collect(Collectors.toList());
+    }
+
     /**
      * 기존 참여자를 수정합니다.
      * DTO에서 null이 아닌 필드만 수정됩니다.
@@ -81,7 +295,7 @@ public class ParticipantService {
      * @throws ResourceNotFoundException 참여자를 찾을 수 없는 경우
      */
     @Transactional
-    public ParticipantDto.Response update(String id, ParticipantDto.Update dto) {
+    public ParticipantDto.Response update(UUID id, ParticipantDto.Update dto) {
         Participant participant = getParticipantById(id);
 
         if (dto.getName() != null) {
@@ -97,25 +311,58 @@ public class ParticipantService {
             participant.setPhone(dto.getPhone());
         }
 
+        cacheInvalidationService.participantChanged(id);
+        participantSearchIndex.refreshAfterCommit(List.of(id));
         return ParticipantDto.Response.from(participant);
     }
 
     /**
      * 참여자를 삭제합니다.
-     * 삭제하기 전에 모든 관련 모임에서 참여자를 제거합니다.
+     * 모든 관련 모임에서 참여자를 제거하고 저장된 프로필 이미지를 해제합니다.
      *
      * @param id 참여자 ID
      * @throws ResourceNotFoundException 참여자를 찾을 수 없는 경우
      */
     @Transactional
-    public void delete(String id) {
-        Participant participant = getParticipantById(id);
-
-        for (Meeting meeting : participant.getMeetings()) {
-            meeting.getParticipants().remove(participant);
+    public void delete(UUID id) {
+        if (!participantRepository.existsById(id)) {
+            throw new ResourceNotFoundException("참여자를 찾을 수 없습니다.");
         }
+        deleteAll(List.of(id));
+    }
 
-        participantRepository.deleteById(id);
+    /**
+     * 여러 참여자를 한 트랜잭션에서 삭제합니다.
+     * 엔티티를 로딩하지 않고 모임 참여 기록, 프로필, 참여자 순으로 집합 단위 삭제를 실행합니다.
+     * 존재하지 않는 ID는 무시합니다.
+     *
+     * @param ids 참여자 ID 목록
+     * @return 삭제된 참여자 수
+     */
+    @Transactional
+    public int deleteAll(List<UUID> ids) {
+        Set<UUID> distinctIds = new LinkedHashSet<>(ids);
+        cacheInvalidationService.participantsChanged(distinctIds);
+        participantSearchIndex.refreshAfterCommit(distinctIds);
+
+        profileRepository.findImageKeysByParticipantIdIn(distinctIds).forEach(imageBlobService::release);
+        participantRepository.deleteMeetingParticipantsByParticipantIdIn(distinctIds);
+        profileRepository.deleteByParticipantIdIn(distinctIds);
+        return participantRepository.deleteByIdIn(distinctIds);
+    }
+
+    /**
+     * 기수 정렬 키가 없는 기존 참여자들의 정렬 키를 기수 단위로 채웁니다.
+     *
+     * @return 변경된 참여자 수
+     */
+    @Transactional
+    public int fillMissingSeasonSortKeys() {
+        int updated = 0;
+        for (String season : participantRepository.findSeasonsWithoutSortKey()) {
+            updated += participantRepository.updateSeasonSortKey(season, SeasonUtil.sortKey(season));
+        }
+        return updated;
     }
 
     /**
@@ -125,11 +372,25 @@ public class ParticipantService {
      * @return 참여자 엔티티
      * @throws ResourceNotFoundException 참여자를 찾을 수 없는 경우
      */
-    private Participant getParticipantById(String id) {
+    private Participant getParticipantById(UUID id) {
         return participantRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("참여자를 찾을 수 없습니다."));
     }
 
+    /**
+     * 주어진 ID의 참여자들을 조회합니다.
+     * 프로필을 포함하면 프로필을 페치 조인하여 참여자마다 프로필을 따로 조회하지 않도록 합니다.
+     *
+     * @param ids 참여자 ID 목록
+     * @param includeProfile 프로필 포함 여부
+     * @return 참여자 목록 (순서는 보장되지 않음)
+     */
+    private List<Participant> findAllById(List<UUID> ids, boolean includeProfile) {
+        return includeProfile
+                ? participantRepository.findWithProfilesByIdIn(ids)
+                : participantRepository.findAllById(ids);
+    }
+
     /**
      * 전화번호가 이미 등록되지 않았는지 검증합니다.
      *
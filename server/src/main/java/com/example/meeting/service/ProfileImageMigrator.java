@@ -0,0 +1,49 @@
+package com.example.meeting.service;
+
+import com.example.meeting.repository.ProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 기존 프로필 이미지를 내용 주소 기반 이미지 저장소로 옮기는 일회성 마이그레이션.
+ * 시작 시 imageUrl 컬럼에 data URL이 남아 있거나 참조 카운트 없이 저장된 프로필만 처리하므로
+ * 이후 실행에서는 아무 작업도 하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "image.migration.enabled", havingValue = "true", matchIfMissing = true)
+public class ProfileImageMigrator implements ApplicationRunner {
+
+    private final ProfileRepository profileRepository;
+    private final ProfileService profileService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        migrate("inline", profileRepository.findIdsWithInlineImage(), profileService::migrateInlineImage);
+        migrate("legacy", profileRepository.findIdsWithLegacyImage(), profileService::migrateLegacyImage);
+    }
+
+    private void migrate(String kind, List<UUID> ids, Consumer<UUID> migration) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        log.info("Migrating {} {} profile images to image storage", ids.size(), kind);
+        for (UUID id : ids) {
+            try {
+                migration.accept(id);
+            } catch (RuntimeException e) {
+                log.warn("Failed to migrate profile image {}: {}", id, e.getMessage());
+            }
+        }
+    }
+}
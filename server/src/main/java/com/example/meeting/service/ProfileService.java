@@ -1,15 +1,28 @@
 package com.example.meeting.service;
 
+import com.example.meeting.domain.ImageBlob;
 import com.example.meeting.domain.Participant;
 import com.example.meeting.domain.Profile;
 import com.example.meeting.dto.ProfileDto;
+import com.example.meeting.exception.InvalidRequestException;
 import com.example.meeting.exception.ResourceNotFoundException;
 import com.example.meeting.repository.ParticipantRepository;
 import com.example.meeting.repository.ProfileRepository;
+import com.example.meeting.util.DataUrlUtil;
+import com.example.meeting.util.ImageTypeUtil;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.UUID;
+
 /**
  * 프로필 비즈니스 로직 관리 서비스.
  * 참여자 프로필의 CRUD 작업을 처리합니다.
@@ -17,10 +30,15 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(value = "service.method", histogram = true)
 public class ProfileService {
 
     private final ProfileRepository profileRepository;
     private final ParticipantRepository participantRepository;
+    private final ImageStorageService imageStorageService;
+    private final ImageVariantService imageVariantService;
+    private final ImageBlobService imageBlobService;
+    private final CacheInvalidationService cacheInvalidationService;
 
     /**
      * 참여자를 위한 새로운 프로필을 생성합니다.
@@ -34,11 +52,12 @@ public class ProfileService {
         Participant participant = getParticipantById(dto.getParticipantId());
 
         Profile profile = Profile.builder()
-                .imageUrl(dto.getImageUrl())
                 .participant(participant)
                 .build();
+        applyImageUrl(profile, dto.getImageUrl());
 
         Profile saved = profileRepository.save(profile);
+        cacheInvalidationService.participantChanged(participant.getId());
         return ProfileDto.Response.from(saved);
     }
 
@@ -49,7 +68,7 @@ public class ProfileService {
      * @return 프로필 응답 DTO
      * @throws ResourceNotFoundException 프로필을 찾을 수 없는 경우
      */
-    public ProfileDto.Response findByParticipantId(String participantId) {
+    public ProfileDto.Response findByParticipantId(UUID participantId) {
         Profile profile = getProfileByParticipantId(participantId);
         return ProfileDto.Response.from(profile);
     }
@@ -64,16 +83,119 @@ public class ProfileService {
      * @throws ResourceNotFoundException 프로필을 찾을 수 없는 경우
      */
     @Transactional
-    public ProfileDto.Response update(String participantId, ProfileDto.Update dto) {
+    public ProfileDto.Response update(UUID participantId, ProfileDto.Update dto) {
         Profile profile = getProfileByParticipantId(participantId);
 
         if (dto.getImageUrl() != null) {
-            profile.setImageUrl(dto.getImageUrl());
+            applyImageUrl(profile, dto.getImageUrl());
+            cacheInvalidationService.participantChanged(participantId);
         }
 
         return ProfileDto.Response.from(profile);
     }
 
+    /**
+     * 참여자의 프로필 이미지를 업로드된 바이트로 교체합니다.
+     * 프로필이 없으면 새로 생성합니다.
+     *
+     * @param participantId 참여자 ID
+     * @param bytes 이미지 바이트
+     * @return 수정된 프로필 응답 DTO
+     * @throws ResourceNotFoundException 참여자를 찾을 수 없는 경우
+     * @throws InvalidRequestException 이미지가 비어 있거나 허용된 이미지 형식이 아닌 경우
+     */
+    @Transactional
+    public ProfileDto.Response uploadImage(UUID participantId, byte[] bytes) {
+        Profile profile = profileRepository.findById(participantId)
+                .orElseGet(() -> Profile.builder()
+                        .participant(getParticipantById(participantId))
+                        .build());
+
+        storeImage(profile, bytes);
+
+        Profile saved = profileRepository.save(profile);
+        cacheInvalidationService.participantChanged(participantId);
+        return ProfileDto.Response.from(saved);
+    }
+
+    /**
+     * 프로필 ID로 저장된 이미지를 조회합니다.
+     * 요청한 크기의 축소 변형이 아직 생성되지 않았으면 원본을 임시로 반환하고 변형 생성을 다시 예약합니다.
+     * 원본이 이미 요청 크기 이하이거나 변형을 만들 수 없는 형식이면 원본이 최종 응답이며,
+     * 이 판단은 업로드 시 기록한 픽셀 크기로 하므로 원본 파일을 읽지 않습니다.
+     *
+     * @param id 프로필 ID
+     * @param size 요청 크기 ("original" 또는 픽셀 수, 선택 사항)
+     * @return 스트리밍할 이미지 DTO
+     * @throws ResourceNotFoundException 프로필 또는 저장된 이미지가 없는 경우
+     * @throws InvalidRequestException 크기 값이 올바르지 않은 경우
+     */
+    public ProfileDto.Image findImage(UUID id, String size) {
+        ProfileRepository.ImageView image = profileRepository.findImageById(id)
+                .filter(view -> view.getImageKey() != null)
+                .orElseThrow(() -> new ResourceNotFoundException("이미지를 찾을 수 없습니다."));
+
+        Optional<Integer> variantSize = imageVariantService.resolveSize(size);
+        Optional<Resource> variant = variantSize
+                .flatMap(candidate -> imageVariantService.findVariant(image.getImageKey(), candidate));
+        if (variant.isPresent()) {
+            return ProfileDto.Image.builder()
+                    .resource(variant.get())
+                    .contentType(imageVariantService.contentTypeOf(variant.get()))
+                    .contentLength(contentLengthOf(variant.get()))
+                    .key(image.getImageKey())
+                    .etag(image.getImageKey() + "-" + variantSize.get())
+                    .build();
+        }
+
+        boolean provisional = variantSize.filter(candidate ->
+                imageVariantService.expectsVariant(image.getImageWidth(), image.getImageHeight(), candidate)).isPresent();
+        if (provisional) {
+            // 업로드 시 생성이 거절되었거나 실패한 변형
+            imageVariantService.regenerate(image.getImageKey());
+        }
+        return ProfileDto.Image.builder()
+                .resource(imageStorageService.load(image.getImageKey()))
+                .contentType(ImageTypeUtil.isAllowed(image.getImageContentType())
+                        ? image.getImageContentType()
+                        : MediaType.APPLICATION_OCTET_STREAM_VALUE)
+                .contentLength(image.getImageSize())
+                .key(image.getImageKey())
+                .etag(image.getImageKey())
+                .provisional(provisional)
+                .build();
+    }
+
+    /**
+     * imageUrl 컬럼에 base64 data URL로 저장된 이미지를 이미지 저장소로 옮깁니다.
+     *
+     * @param id 프로필 ID
+     */
+    @Transactional
+    public void migrateInlineImage(UUID id) {
+        profileRepository.findById(id)
+                .filter(profile -> DataUrlUtil.isDataUrl(profile.getImageUrl()))
+                .ifPresent(profile -> applyImageUrl(profile, profile.getImageUrl()));
+    }
+
+    /**
+     * 참조 카운트 도입 전에 임의 키로 저장된 이미지를 내용 주소 기반 저장소로 옮깁니다.
+     *
+     * @param id 프로필 ID
+     */
+    @Transactional
+    public void migrateLegacyImage(UUID id) {
+        profileRepository.findById(id)
+                .filter(profile -> profile.getImageKey() != null && imageBlobService.isLegacy(profile.getImageKey()))
+                .ifPresent(profile -> {
+                    try (InputStream in = imageStorageService.load(profile.getImageKey()).getInputStream()) {
+                        storeImage(profile, in.readAllBytes());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
     /**
      * 프로필을 삭제합니다.
      *
@@ -81,9 +203,73 @@ public class ProfileService {
      * @throws ResourceNotFoundException 프로필을 찾을 수 없는 경우
      */
     @Transactional
-    public void delete(String participantId) {
+    public void delete(UUID participantId) {
         Profile profile = getProfileByParticipantId(participantId);
+        releaseImage(profile);
         profileRepository.delete(profile);
+        cacheInvalidationService.participantChanged(participantId);
+    }
+
+    /**
+     * 요청된 imageUrl을 프로필에 반영합니다.
+     * data URL은 디코딩하여 이미지 저장소에 보관하고, 현재 이미지 링크가 그대로 전달되면 변경하지 않으며,
+     * 그 외의 값은 외부 이미지 URL로 저장합니다.
+     *
+     * @param profile 프로필 엔티티
+     * @param imageUrl 요청된 이미지 URL
+     */
+    private void applyImageUrl(Profile profile, String imageUrl) {
+        if (DataUrlUtil.isDataUrl(imageUrl)) {
+            DataUrlUtil.DataUrl dataUrl = DataUrlUtil.parse(imageUrl);
+            storeImage(profile, dataUrl.getBytes());
+            return;
+        }
+        if (profile.getImageKey() != null && imageUrl != null
+                && imageUrl.endsWith(ProfileDto.Response.imageLink(profile))) {
+            return;
+        }
+        releaseImage(profile);
+        profile.setImageUrl(imageUrl);
+    }
+
+    /**
+     * 이미지 바이트에 대한 참조를 획득하고 프로필이 이를 가리키도록 합니다.
+     * 같은 내용의 이미지는 한 번만 저장되며, 기존 이미지에 대한 참조는 해제됩니다.
+     * MIME 타입은 클라이언트가 보낸 값 대신 파일 시그니처로 판별한 값을 저장합니다.
+     *
+     * @param profile 프로필 엔티티
+     * @param bytes 이미지 바이트
+     * @throws InvalidRequestException 이미지가 비어 있거나 허용된 이미지 형식(PNG, JPEG, GIF, WebP)이 아닌 경우
+     */
+    private void storeImage(Profile profile, byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            throw new InvalidRequestException("이미지가 비어 있습니다.");
+        }
+        String contentType = ImageTypeUtil.detect(bytes)
+                .orElseThrow(() -> new InvalidRequestException("이미지 형식이 올바르지 않습니다."));
+
+        ImageBlob blob = imageBlobService.acquire(bytes, contentType);
+        releaseImage(profile);
+        profile.setImageKey(blob.getId());
+        profile.setImageContentType(blob.getContentType());
+        profile.setImageSize(blob.getSize());
+        profile.setImageUrl(null);
+    }
+
+    /**
+     * 프로필이 가리키는 저장된 이미지에 대한 참조를 해제합니다.
+     * 더 이상 참조되지 않는 이미지는 트랜잭션 커밋 후 삭제됩니다.
+     *
+     * @param profile 프로필 엔티티
+     */
+    private void releaseImage(Profile profile) {
+        if (profile.getImageKey() == null) {
+            return;
+        }
+        imageBlobService.release(profile.getImageKey());
+        profile.setImageKey(null);
+        profile.setImageContentType(null);
+        profile.setImageSize(null);
     }
 
     /**
@@ -93,20 +279,35 @@ public class ProfileService {
      * @return 참여자 엔티티
      * @throws ResourceNotFoundException 참여자를 찾을 수 없는 경우
      */
-    private Participant getParticipantById(String id) {
+    private Participant getParticipantById(UUID id) {
         return participantRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("참여자를 찾을 수 없습니다."));
     }
 
+    /**
+     * 리소스의 바이트 크기를 조회합니다.
+     *
+     * @param resource 이미지 리소스
+     * @return 바이트 크기
+     */
+    private long contentLengthOf(Resource resource) {
+        try {
+            return resource.contentLength();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * 참여자 ID로 프로필을 조회하거나 찾을 수 없는 경우 예외를 발생시킵니다.
+     * 프로필 ID가 참여자 ID와 같으므로 2차 캐시에서 바로 찾을 수 있습니다.
      *
      * @param participantId 참여자 ID
      * @return 프로필 엔티티
      * @throws ResourceNotFoundException 프로필을 찾을 수 없는 경우
      */
-    private Profile getProfileByParticipantId(String participantId) {
-        return profileRepository.findByParticipantId(participantId)
+    private Profile getProfileByParticipantId(UUID participantId) {
+        return profileRepository.findById(participantId)
                 .orElseThrow(() -> new ResourceNotFoundException("프로필을 찾을 수 없습니다."));
     }
 }
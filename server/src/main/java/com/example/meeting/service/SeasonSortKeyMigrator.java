@@ -0,0 +1,27 @@
+package com.example.meeting.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기수 정렬 키 컬럼이 추가되기 전에 저장된 참여자의 정렬 키를 채우는 일회성 마이그레이션.
+ * 정렬 키가 비어 있는 참여자만 처리하므로 이후 실행에서는 아무 작업도 하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeasonSortKeyMigrator implements ApplicationRunner {
+
+    private final ParticipantService participantService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int updated = participantService.fillMissingSeasonSortKeys();
+        if (updated > 0) {
+            log.info("Filled season sort keys for {} participants", updated);
+        }
+    }
+}
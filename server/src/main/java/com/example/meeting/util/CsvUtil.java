@@ -0,0 +1,74 @@
+package com.example.meeting.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CsvUtil {
+
+    /**
+     * Excel에서 UTF-8 한글이 깨지지 않도록 파일 앞에 쓰는 BOM
+     */
+    public static final char BOM = '\uFEFF';
+
+    /**
+     * 값들을 RFC 4180 형식의 한 행으로 기록
+     * 쉼표, 따옴표, 줄바꿈이 포함된 값은 따옴표로 감싸고, null은 빈 값으로 기록
+     */
+    public static void writeRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180 형식의 한 행을 값 목록으로 분리
+     * 따옴표로 감싼 값 안의 쉼표와 이중 따옴표("")를 처리하며, 값 안의 줄바꿈은 지원하지 않음
+     */
+    public static List<String> parseRow(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
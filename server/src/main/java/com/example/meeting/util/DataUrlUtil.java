@@ -0,0 +1,49 @@
+package com.example.meeting.util;
+
+import com.example.meeting.exception.InvalidRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Base64;
+
+public class DataUrlUtil {
+
+    private static final String PREFIX = "data:";
+    private static final String BASE64_MARKER = ";base64,";
+
+    /**
+     * 문자열이 data URL(data:image/png;base64,...) 형식인지 확인
+     */
+    public static boolean isDataUrl(String value) {
+        return value != null && value.startsWith(PREFIX);
+    }
+
+    /**
+     * base64로 인코딩된 이미지 data URL을 MIME 타입과 바이트로 디코딩
+     * React의 FileReader.readAsDataURL 결과를 처리
+     */
+    public static DataUrl parse(String value) {
+        int markerIndex = value.indexOf(BASE64_MARKER);
+        if (!isDataUrl(value) || markerIndex < 0) {
+            throw new InvalidRequestException("이미지 형식이 올바르지 않습니다.");
+        }
+
+        String contentType = value.substring(PREFIX.length(), markerIndex);
+        try {
+            byte[] bytes = Base64.getMimeDecoder().decode(value.substring(markerIndex + BASE64_MARKER.length()));
+            return new DataUrl(contentType, bytes);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("이미지 형식이 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * 디코딩된 data URL의 MIME 타입과 바이트
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class DataUrl {
+        private final String contentType;
+        private final byte[] bytes;
+    }
+}
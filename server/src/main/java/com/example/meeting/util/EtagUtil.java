@@ -0,0 +1,57 @@
+package com.example.meeting.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+public class EtagUtil {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 버전 구성 요소들을 이어 붙여 짧고 불투명한 ETag 값으로 변환
+     */
+    public static String of(Object... parts) {
+        String joined = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining(SEPARATOR));
+        return DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 같은 리소스의 다른 표현(include 파라미터 등)이 서로 다른 ETag를 갖도록 표현 구성 요소를 덧붙임
+     * 구성 요소가 없거나 ETag가 null이면 그대로 반환
+     */
+    public static String variant(String etag, Collection<?> representation) {
+        if (etag == null || representation.isEmpty()) {
+            return etag;
+        }
+        return of(etag, representation);
+    }
+
+    /**
+     * If-None-Match가 ETag와 일치하면 본문을 만들지 않고 304로 응답
+     * 일치하지 않으면 ETag와 함께 본문을 반환하며, 클라이언트는 매번 재검증하도록 no-cache로 지정
+     * 같은 ETag로 Accept에 따라 JSON 또는 바이너리 형식으로 응답하므로 캐시가 형식별로 구분하도록 Vary: Accept를 붙임
+     * ETag가 null이면(대상이 없는 경우) 조건 검사 없이 본문 생성에 맡겨 404 등의 처리를 따름
+     * 본문이 캐시에서 오는 경우 ETag를 캐시 키에 넣어, 이 ETag를 계산하기 전에 시작된 조회의 본문이 함께 나가지 않도록 해야 함
+     * 응답 압축과 형식에 따라 바이트가 달라지므로 약한 ETag로 보냄 (Tomcat은 강한 ETag가 있는 응답을 압축하지 않음)
+     */
+    public static <T> ResponseEntity<T> conditional(WebRequest request, String etag, Supplier<T> body) {
+        if (etag != null && request.checkNotModified("W/\"" + etag + "\"")) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(body.get());
+    }
+}
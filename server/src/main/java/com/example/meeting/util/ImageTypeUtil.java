@@ -0,0 +1,68 @@
+package com.example.meeting.util;
+
+import java.util.Optional;
+import java.util.Set;
+
+public class ImageTypeUtil {
+
+    public static final String PNG = "image/png";
+    public static final String JPEG = "image/jpeg";
+    public static final String GIF = "image/gif";
+    public static final String WEBP = "image/webp";
+
+    /**
+     * 형식 판별에 필요한 최대 헤더 길이 (WebP: RIFF????WEBP)
+     */
+    public static final int HEADER_LENGTH = 12;
+
+    private static final Set<String> ALLOWED = Set.of(PNG, JPEG, GIF, WEBP);
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] JPEG_SIGNATURE = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] GIF87_SIGNATURE = {'G', 'I', 'F', '8', '7', 'a'};
+    private static final byte[] GIF89_SIGNATURE = {'G', 'I', 'F', '8', '9', 'a'};
+    private static final byte[] RIFF_SIGNATURE = {'R', 'I', 'F', 'F'};
+    private static final byte[] WEBP_SIGNATURE = {'W', 'E', 'B', 'P'};
+
+    /**
+     * 파일 시그니처(매직 바이트)로 허용된 이미지 형식(PNG, JPEG, GIF, WebP)을 판별
+     * 클라이언트가 보낸 Content-Type은 신뢰하지 않으며, SVG처럼 스크립트를 담을 수 있는 형식은 허용하지 않음
+     */
+    public static Optional<String> detect(byte[] bytes) {
+        if (bytes == null) {
+            return Optional.empty();
+        }
+        if (startsWith(bytes, 0, PNG_SIGNATURE)) {
+            return Optional.of(PNG);
+        }
+        if (startsWith(bytes, 0, JPEG_SIGNATURE)) {
+            return Optional.of(JPEG);
+        }
+        if (startsWith(bytes, 0, GIF87_SIGNATURE) || startsWith(bytes, 0, GIF89_SIGNATURE)) {
+            return Optional.of(GIF);
+        }
+        if (startsWith(bytes, 0, RIFF_SIGNATURE) && startsWith(bytes, 8, WEBP_SIGNATURE)) {
+            return Optional.of(WEBP);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 저장된 MIME 타입이 그대로 응답해도 되는 허용 형식인지 확인
+     */
+    public static boolean isAllowed(String contentType) {
+        return contentType != null && ALLOWED.contains(contentType);
+    }
+
+    private static boolean startsWith(byte[] bytes, int offset, byte[] signature) {
+        if (bytes.length < offset + signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if (bytes[offset + i] != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.meeting.util;
+
+import com.example.meeting.exception.InvalidRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+public class PageUtil {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 페이지 번호와 크기를 검증하여 Pageable로 변환
+     * 커서로 조회하는 경우 페이지 번호는 지정할 수 없음
+     */
+    public static Pageable pageRequest(Integer page, int size, String cursor) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("페이지 크기는 1에서 " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        if (page != null && page < 0) {
+            throw new InvalidRequestException("페이지 번호는 0 이상이어야 합니다.");
+        }
+        if (page != null && cursor != null) {
+            throw new InvalidRequestException("페이지 번호와 커서는 함께 사용할 수 없습니다.");
+        }
+        return PageRequest.of(page != null ? page : 0, size);
+    }
+
+    /**
+     * (updatedAt, id) 키셋 위치를 URL에 안전한 불투명 커서 문자열로 인코딩
+     */
+    public static String encodeCursor(LocalDateTime updatedAt, UUID id) {
+        String raw = updatedAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 (updatedAt, id) 키셋 위치로 디코딩
+     */
+    public static Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new InvalidRequestException("커서가 올바르지 않습니다.");
+            }
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separatorIndex)), UUID.fromString(raw.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("커서가 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * 디코딩된 키셋 위치
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Cursor {
+        private final LocalDateTime updatedAt;
+        private final UUID id;
+    }
+}
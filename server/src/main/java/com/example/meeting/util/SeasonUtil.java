@@ -0,0 +1,30 @@
+package com.example.meeting.util;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class SeasonUtil {
+
+    private static final Pattern LEADING_NUMBER = Pattern.compile("^0*(\\d+?)(\\D.*)?$", Pattern.DOTALL);
+
+    private static final int NUMBER_WIDTH = 10;
+
+    /**
+     * 기수의 자연 정렬 키 생성
+     * 문자로 시작하는 기수(원로회 등)는 "0" 접두어로 가나다순, 숫자로 시작하는 기수는 "1" 접두어와
+     * 0으로 채운 고정 폭 숫자로 1, 2, 10 순서가 되도록 하여 문자열 비교만으로 정렬되게 함
+     */
+    public static String sortKey(String season) {
+        if (season == null) {
+            return null;
+        }
+        Matcher matcher = LEADING_NUMBER.matcher(season);
+        if (!matcher.matches()) {
+            return "0" + season;
+        }
+        String number = matcher.group(1);
+        String rest = matcher.group(2) != null ? matcher.group(2) : "";
+        String padding = "0".repeat(Math.max(0, NUMBER_WIDTH - number.length()));
+        return "1" + padding + number + rest;
+    }
+}
@@ -0,0 +1,80 @@
+-- 기본 스키마.
+-- ddl-auto로 생성된 기존 데이터베이스는 버전 0으로 기준선이 잡힌 뒤 이 스크립트가 실행되므로,
+-- 모든 문장은 이미 존재하는 테이블과 열을 건너뜁니다. 이전 스키마의 열 추가는 아래에서,
+-- 키와 열 타입 변경은 V3__Legacy_schema 마이그레이션에서 최신 상태로 맞춥니다.
+
+create table if not exists participants (
+    id uuid not null,
+    name varchar(255) not null,
+    position varchar(255) not null,
+    season varchar(255) not null,
+    season_sort_key varchar(255),
+    phone varchar(255) not null,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    version bigint default 0 not null,
+    constraint pk_participants primary key (id),
+    constraint uk_participants_phone unique (phone)
+);
+
+create table if not exists meetings (
+    id uuid not null,
+    title varchar(255) not null,
+    desc text not null,
+    date timestamp(6) not null,
+    location varchar(255) not null,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    version bigint default 0 not null,
+    constraint pk_meetings primary key (id)
+);
+
+create table if not exists meeting_participants (
+    meeting_id uuid not null,
+    participant_id uuid not null,
+    constraint pk_meeting_participants primary key (meeting_id, participant_id),
+    constraint fk_meeting_participants_meeting foreign key (meeting_id) references meetings (id),
+    constraint fk_meeting_participants_participant foreign key (participant_id) references participants (id)
+);
+
+create table if not exists profiles (
+    participant_id uuid not null,
+    image_url text,
+    image_key varchar(255),
+    image_content_type varchar(255),
+    image_size bigint,
+    updated_at timestamp(6),
+    version bigint default 0 not null,
+    constraint pk_profiles primary key (participant_id),
+    constraint fk_profiles_participant foreign key (participant_id) references participants (id)
+);
+
+create table if not exists image_blobs (
+    id varchar(64) not null,
+    content_type varchar(255) not null,
+    size bigint not null,
+    width integer,
+    height integer,
+    ref_count integer not null,
+    created_at timestamp(6),
+    constraint pk_image_blobs primary key (id)
+);
+
+-- 이전 버전의 ddl-auto 스키마에 없던 열
+alter table participants add column if not exists season_sort_key varchar(255);
+alter table participants add column if not exists version bigint default 0 not null;
+alter table meetings add column if not exists version bigint default 0 not null;
+alter table profiles add column if not exists image_key varchar(255);
+alter table profiles add column if not exists image_content_type varchar(255);
+alter table profiles add column if not exists image_size bigint;
+alter table profiles add column if not exists updated_at timestamp(6);
+alter table profiles add column if not exists version bigint default 0 not null;
+alter table image_blobs add column if not exists width integer;
+alter table image_blobs add column if not exists height integer;
+
+-- 커서 기반 페이지 조회 (findIdSlice, findSlice 등)
+create index if not exists idx_meetings_updated_at_id on meetings (updated_at desc, id desc);
+create index if not exists idx_participants_updated_at_id on participants (updated_at desc, id desc);
+
+-- 기수별 그룹의 첫 페이지와 기수 페이지 (findFirstIdsPerSeason, findSeasonSlice)
+create index if not exists idx_participants_season_name_id on participants (season, name, id);
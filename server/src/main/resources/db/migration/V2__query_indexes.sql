@@ -0,0 +1,18 @@
+-- 저장소 조회가 사용하는 인덱스.
+-- 조인 테이블의 기본 키는 (meeting_id, participant_id) 순서이므로 참여자 기준 조회에는 쓰이지 않습니다.
+
+-- 참여자 삭제 시 참석 기록 삭제와 관련 모임 조회 (deleteMeetingParticipantsByParticipantIdIn, findIdsByParticipantIdIn)
+create index if not exists idx_meeting_participants_participant_id
+    on meeting_participants (participant_id, meeting_id);
+
+-- 기수 자연 정렬 순서의 조회와 정렬 키가 없는 행 조회
+-- (findSeasonGroups, findNonAttendeeSlice, streamExportRows, findSeasonsWithoutSortKey)
+create index if not exists idx_participants_season_sort_key
+    on participants (season_sort_key, season, name, id);
+
+-- 프로필 변경 시각 집계 (findChangeStamp)
+-- 참여자 ID로 프로필을 찾는 조회는 기본 키(participant_id)를 사용합니다.
+create index if not exists idx_profiles_updated_at on profiles (updated_at);
+
+-- 이미지 저장소 이전 대상 조회 (findIdsWithLegacyImage)
+create index if not exists idx_profiles_image_key on profiles (image_key);
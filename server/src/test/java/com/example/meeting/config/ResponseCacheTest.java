@@ -0,0 +1,85 @@
+package com.example.meeting.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 응답 캐시의 세대 검사와 키 앞부분 제거를 확인합니다.
+ */
+class ResponseCacheTest {
+
+    private final ResponseCache cache = new ResponseCache("test", Caffeine.newBuilder().build(), false);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void keepsValueLoadedWithoutEviction() {
+        assertThat(cache.get(List.of("id", false, "etag"), () -> "fresh")).isEqualTo("fresh");
+
+        assertThat(cache.get(List.of("id", false, "etag")).get()).isEqualTo("fresh");
+    }
+
+    @Test
+    void dropsValueWhoseLoadOverlappedAnEviction() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+
+        Future<String> load = executor.submit(() -> cache.get(List.of("id", false, "etag"), () -> {
+            loading.countDown();
+            evicted.await();
+            return "stale";
+        }));
+        loading.await();
+        cache.evict(List.of("id"));
+        evicted.countDown();
+
+        assertThat(load.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+        assertThat(cache.get(List.of("id", false, "etag"))).isNull();
+    }
+
+    @Test
+    void dropsValueWhoseLoadOverlappedAClear() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch cleared = new CountDownLatch(1);
+
+        Future<String> load = executor.submit(() -> cache.get(List.of(true, "etag"), () -> {
+            loading.countDown();
+            cleared.await();
+            return "stale";
+        }));
+        loading.await();
+        cache.clear();
+        cleared.countDown();
+
+        assertThat(load.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+        assertThat(cache.get(List.of(true, "etag"))).isNull();
+    }
+
+    @Test
+    void evictingIdPrefixRemovesEveryRepresentation() {
+        cache.put(List.of("id", false, "a"), "without profile");
+        cache.put(List.of("id", true, "b"), "with profile");
+        cache.put(List.of("other", false, "a"), "other");
+
+        cache.evict(List.of("id"));
+
+        assertThat(cache.get(List.of("id", false, "a"))).isNull();
+        assertThat(cache.get(List.of("id", true, "b"))).isNull();
+        assertThat(cache.get(List.of("other", false, "a")).get()).isEqualTo("other");
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.meeting.filter;
+
+import com.example.meeting.domain.Participant;
+import com.example.meeting.dto.ParticipantDto;
+import com.example.meeting.repository.ParticipantRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * fail-on-exceed가 켜진 상태에서 SQL 예산 필터가 요청을 실패시키는지, 엔드포인트에 선언한 예산이
+ * 기본 예산보다 우선하는지, 비동기 스트리밍 응답이 Server-Timing 버퍼를 거쳐도 온전히 전달되는지 확인합니다.
+ * 기본 예산을 0으로 두어 예산을 선언하지 않은 엔드포인트는 SQL을 하나만 실행해도 예산을 넘깁니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:sql-budget;DB_CLOSE_DELAY=-1",
+        "image.storage.path=build/test-data/images",
+        "image.migration.enabled=false",
+        "sql-budget.max-statements=0",
+        "sql-budget.fail-on-exceed=true"
+})
+class SqlBudgetFilterTest {
+
+    private static final int PARTICIPANTS = 300;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @BeforeEach
+    void setUp() {
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            participants.add(Participant.builder()
+                    .name("참여자" + i)
+                    .position("멤버")
+                    .season((i % 3 + 1) + "기")
+                    .phone(String.format("010-1111-%04d", i))
+                    .build());
+        }
+        participantRepository.saveAll(participants);
+    }
+
+    @AfterEach
+    void tearDown() {
+        participantRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void requestOverTheDefaultBudgetFails() {
+        ParticipantDto.Create dto = new ParticipantDto.Create();
+        dto.setName("예산 초과");
+        dto.setSeason("1기");
+        dto.setPosition("멤버");
+        dto.setPhone("010-2222-0000");
+
+        ResponseEntity<String> response = restTemplate.postForEntity("/participants", dto, String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    void declaredBudgetOverridesTheDefault() {
+        ResponseEntity<String> response = restTemplate.getForEntity("/participants/summary", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst("Server-Timing"))
+                .startsWith("db;dur=")
+                .contains("serialize;dur=");
+    }
+
+    @Test
+    void asyncExportIsStreamedCompletelyWithoutBudgetCheck() {
+        ResponseEntity<String> response = restTemplate.getForEntity("/participants/export", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst("Server-Timing"))
+                .startsWith("db;dur=")
+                .doesNotContain("serialize");
+        assertThat(response.getBody().lines().toList())
+                .hasSize(PARTICIPANTS)
+                .allSatisfy(line -> assertThat(line).startsWith("{").endsWith("}"));
+    }
+}
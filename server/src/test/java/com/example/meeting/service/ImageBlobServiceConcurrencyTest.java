@@ -0,0 +1,144 @@
+package com.example.meeting.service;
+
+import com.example.meeting.domain.ImageBlob;
+import com.example.meeting.repository.ImageBlobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 이미지에 대한 동시 참조 획득과 해제가 참조 카운트와 파일을 일관되게 남기는지 확인합니다.
+ * 두 작업을 같은 시점에 시작하도록 여러 번 반복하여, 어느 쪽이 먼저 행을 잠그든 결과가 같은지 봅니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:image-blob-concurrency;DB_CLOSE_DELAY=-1",
+        "image.storage.path=build/test-data/images",
+        "image.migration.enabled=false",
+        "image.sweep.grace-period=0s"
+})
+class ImageBlobServiceConcurrencyTest {
+
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private ImageBlobService imageBlobService;
+
+    @Autowired
+    private ImageBlobRepository imageBlobRepository;
+
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> imageBlobRepository.findAll()
+                .forEach(blob -> imageStorageService.delete(blob.getId())));
+        imageBlobRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentUploadsOfTheSameBytesShareOneBlob() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            byte[] bytes = bytes("same-" + round);
+
+            List<ImageBlob> blobs = race(() -> acquire(bytes), () -> acquire(bytes));
+
+            String hash = blobs.get(0).getId();
+            assertThat(blobs.get(1).getId()).isEqualTo(hash);
+            assertThat(imageBlobRepository.findRefCountById(hash)).contains(2);
+            assertThat(imageStorageService.exists(hash)).isTrue();
+        }
+    }
+
+    @Test
+    void releaseRacingAnAcquireKeepsTheReacquiredBlob() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            byte[] bytes = bytes("release-" + round);
+            String hash = acquire(bytes).getId();
+
+            race(() -> {
+                release(hash);
+                return null;
+            }, () -> acquire(bytes));
+
+            assertThat(imageBlobRepository.findRefCountById(hash)).contains(1);
+            assertThat(imageStorageService.exists(hash)).isTrue();
+        }
+    }
+
+    @Test
+    void sweepRemovesBlobsLeftUnreferenced() {
+        String hash = acquire(bytes("orphan")).getId();
+        release(hash);
+        // 커밋 후 정리가 실행되지 못한 경우를 흉내 내기 위해 참조 카운트 0인 행을 다시 만듦
+        imageStorageService.store(hash, bytes("orphan"));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                imageBlobRepository.insertUnreferenced(hash, "image/png", 6, null, null));
+
+        assertThat(imageBlobService.sweepUnreferenced()).isEqualTo(1);
+
+        assertThat(imageBlobRepository.existsById(hash)).isFalse();
+        assertThat(imageStorageService.exists(hash)).isFalse();
+    }
+
+    @Test
+    void sweepKeepsReferencedBlobs() {
+        String hash = acquire(bytes("referenced")).getId();
+
+        assertThat(imageBlobService.sweepUnreferenced()).isZero();
+
+        assertThat(imageBlobRepository.findRefCountById(hash)).contains(1);
+        assertThat(imageStorageService.exists(hash)).isTrue();
+    }
+
+    /**
+     * 두 작업을 각자의 스레드에서 동시에 시작하고 결과를 순서대로 반환합니다.
+     */
+    private <T> List<T> race(Callable<T> first, Callable<T> second) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        Future<T> a = executor.submit(() -> {
+            start.await();
+            return first.call();
+        });
+        Future<T> b = executor.submit(() -> {
+            start.await();
+            return second.call();
+        });
+        start.countDown();
+        return Arrays.asList(a.get(10, TimeUnit.SECONDS), b.get(10, TimeUnit.SECONDS));
+    }
+
+    private ImageBlob acquire(byte[] bytes) {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                imageBlobService.acquire(bytes, "image/png"));
+    }
+
+    private void release(String hash) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> imageBlobService.release(hash));
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
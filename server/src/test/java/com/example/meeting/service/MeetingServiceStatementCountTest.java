@@ -0,0 +1,178 @@
+package com.example.meeting.service;
+
+import com.example.meeting.domain.Meeting;
+import com.example.meeting.domain.Participant;
+import com.example.meeting.domain.Profile;
+import com.example.meeting.dto.MeetingDto;
+import com.example.meeting.repository.MeetingRepository;
+import com.example.meeting.repository.ParticipantRepository;
+import com.example.meeting.repository.ProfileRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모임 조회가 참석자 수와 관계없이 정해진 수의 SQL 문으로 실행되는지 Hibernate 통계로 확인합니다.
+ * 참석자나 프로필을 지연 로딩으로 하나씩 읽도록 매핑이나 엔티티 그래프가 바뀌면 실패합니다.
+ * 2차 캐시와 응답 캐시를 비운 상태에서 측정하므로 캐시 적중 여부와 무관한 최악의 경우를 고정합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statement-count;DB_CLOSE_DELAY=-1",
+        "image.storage.path=build/test-data/images",
+        "image.migration.enabled=false"
+})
+class MeetingServiceStatementCountTest {
+
+    private static final int MEETINGS = 12;
+    private static final int PARTICIPANTS = 30;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private ParticipantService participantService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    private List<UUID> meetingIds;
+
+    @BeforeEach
+    void setUp() {
+        meetingIds = new TransactionTemplate(transactionManager).execute(status -> seed());
+
+        entityManagerFactory.getCache().evictAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            meetingRepository.deleteMeetingParticipantsByMeetingIdIn(meetingRepository.findAll().stream()
+                    .map(Meeting::getId)
+                    .toList());
+            profileRepository.deleteAllInBatch();
+            meetingRepository.deleteAllInBatch();
+            participantRepository.deleteAllInBatch();
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void findAllLoadsMeetingsAndAttendeesInOneStatement() {
+        List<MeetingDto.Response> meetings = meetingService.findAll(false, "test");
+
+        assertThat(meetings).hasSize(MEETINGS);
+        assertThat(meetings).allSatisfy(meeting -> assertThat(meeting.getParticipants()).hasSize(PARTICIPANTS));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findAllWithProfilesLoadsAttendeeProfilesInTheSameStatement() {
+        List<MeetingDto.Response> meetings = meetingService.findAll(true, "test");
+
+        assertThat(meetings).allSatisfy(meeting -> assertThat(meeting.getParticipants())
+                .allSatisfy(participant -> assertThat(participant.getProfile()).isNotNull()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findAllWithoutProfilesDoesNotReadProfiles() {
+        List<MeetingDto.Response> meetings = meetingService.findAll(false, "test");
+
+        assertThat(meetings).allSatisfy(meeting -> assertThat(meeting.getParticipants())
+                .allSatisfy(participant -> assertThat(participant.getProfile()).isNull()));
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(MEETINGS + PARTICIPANTS);
+    }
+
+    @Test
+    void findPageLoadsIdPageAndAttendeesInTwoStatements() {
+        meetingService.findPage(0, 5, null, true);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void findByIdLoadsMeetingAndAttendeesInOneStatement() {
+        MeetingDto.Response meeting = meetingService.findById(meetingIds.get(0), true, "test");
+
+        assertThat(meeting.getParticipants()).hasSize(PARTICIPANTS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void participantPageWithProfilesLoadsInOneStatement() {
+        participantService.findPage(0, 10, null, true);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    /**
+     * 모든 참여자가 프로필을 갖고 모든 모임에 참석하도록 데이터를 만듭니다.
+     */
+    private List<UUID> seed() {
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            Participant participant = Participant.builder()
+                    .name("참여자" + i)
+                    .position("멤버")
+                    .season((i % 3 + 1) + "기")
+                    .phone(String.format("010-0000-%04d", i))
+                    .build();
+            participant.setProfile(Profile.builder()
+                    .imageUrl("https://example.com/profiles/" + i + ".png")
+                    .build());
+            participants.add(participant);
+        }
+        participantRepository.saveAll(participants);
+
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < MEETINGS; i++) {
+            Meeting meeting = Meeting.builder()
+                    .title("모임 " + i)
+                    .desc("통계 테스트")
+                    .date(LocalDateTime.of(2026, 1, 1, 19, 0).plusDays(i))
+                    .location("서울")
+                    .build();
+            meeting.getParticipants().addAll(participants);
+            ids.add(meetingRepository.save(meeting).getId());
+        }
+        return ids;
+    }
+}
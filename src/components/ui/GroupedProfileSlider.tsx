@@ -1,5 +1,6 @@
 import React, { useState } from 'react';
 import type { Participant } from '../../services/participantService';
+import { resolveImageUrl } from '../../lib/api';
 import './GroupedProfileSlider.css';
 
 interface GroupedData {
@@ -93,7 +94,7 @@ const GroupedProfileSlider: React.FC<GroupedProfileSliderProps> = ({ groups, siz
                         {currentParticipants.map((p) => (
                             <div key={p.id} className="profile-card">
                                 {p.profile?.imageUrl ? (
-                                    <img src={p.profile.imageUrl} alt={p.name} className="profile-img" />
+                                    <img src={resolveImageUrl(p.profile.imageUrl, 256)} alt={p.name} className="profile-img" />
                                 ) : (
                                     <div className="profile-img default-profile-img">{p.name.charAt(0)}</div>
                                 )}
@@ -1,6 +1,7 @@
 // src/components/ui/PagedProfileGrid.tsx
 import React, { useState } from 'react';
 import type { Participant } from '../../services/participantService';
+import { resolveImageUrl } from '../../lib/api';
 import './PagedProfileGrid.css';
 
 interface PagedProfileGridProps {
@@ -66,7 +67,7 @@ const PagedProfileGrid: React.FC<PagedProfileGridProps> = ({ participants }) =>
                     {currentParticipants.map((p) => (
                         <div key={p.id} className="profile-card">
                             {p.profile?.imageUrl ? (
-                                <img src={p.profile.imageUrl} alt={p.name} className="profile-img" />
+                                <img src={resolveImageUrl(p.profile.imageUrl, 256)} alt={p.name} className="profile-img" />
                             ) : (
                                 <div className="profile-img default-profile-img">{p.name.charAt(0)}</div>
                             )}
@@ -8,4 +8,16 @@ const api = axios.create({
     withCredentials: true,
 });
 
+/**
+ * 서버가 반환한 상대 경로 이미지 링크(/profiles/{id}/image)를 API 서버 기준 URL로 변환합니다.
+ * @param url 프로필 이미지 URL
+ * @param size 필요한 썸네일 크기(px). 지정하면 서버에서 축소된 변형을 받습니다.
+ * @returns 브라우저에서 바로 사용할 수 있는 이미지 URL
+ */
+export const resolveImageUrl = (url?: string, size?: number): string | undefined => {
+    if (!url?.startsWith('/')) return url;
+    const sized = size ? `${url}${url.includes('?') ? '&' : '?'}size=${size}` : url;
+    return `${api.defaults.baseURL}${sized}`;
+};
+
 export default api;
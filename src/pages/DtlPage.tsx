@@ -2,6 +2,7 @@ import React, { useState, useEffect, useRef } from 'react';
 import { useNavigate, useParams } from 'react-router-dom';
 import { ParticipantService, type Participant } from '../services/participantService';
 import { profileService } from '../services/profileService';
+import { resolveImageUrl } from '../lib/api';
 import '../app/App.css';
 import '../styles/common.css';
 import defaultProfile from '../assets/default-profile.png';
@@ -51,7 +52,7 @@ export default function DtlPage() {
                     phone: data.phone,
                 });
                 if (data.profile?.imageUrl) {
-                    setPreview(data.profile.imageUrl);
+                    setPreview(resolveImageUrl(data.profile.imageUrl));
                 }
             } catch (err) {
                 console.error('Failed to fetch participant:', err);
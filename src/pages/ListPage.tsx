@@ -1,19 +1,22 @@
 import { useState, useEffect, useRef } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { Table } from '../components/ui/Table';
-import { ParticipantService, type Meeting, type Participant } from '../services/participantService';
-import { meetingService } from '../services/meetingService';
+import { ParticipantService, type Participant } from '../services/participantService';
+import { meetingService, type MeetingSummary } from '../services/meetingService';
+import { resolveImageUrl } from '../lib/api';
 import '../app/App.css';
 import '../styles/common.css';
 import AlertModal from '../components/ui/AlertModal';
 
 const DEFAULT_MEETING_DESC = '환영합니다.';
 const DEFAULT_LOCATION = '서울';
+const SEARCH_PAGE_SIZE = 100;
+const SEARCH_DEBOUNCE_MS = 200;
 
 export default function ListPage() {
     const navigate = useNavigate();
     const [participants, setParticipants] = useState<Participant[]>([]);
-    const [meetings, setMeetings] = useState<Meeting[]>([]);
+    const [meetings, setMeetings] = useState<MeetingSummary[]>([]);
     const [loading, setLoading] = useState(true);
     const [error, setError] = useState<string | null>(null);
 
@@ -22,6 +25,7 @@ export default function ListPage() {
     const [selectedIds, setSelectedIds] = useState<string[]>([]);
     const [selectedMeetingIds, setSelectedMeetingIds] = useState<string[]>([]);
     const [searchTerm, setSearchTerm] = useState('');
+    const [searchResults, setSearchResults] = useState<Participant[] | null>(null);
     const meetingNameInputRef = useRef<HTMLInputElement>(null);
 
     // Alert Modal State
@@ -115,7 +119,7 @@ export default function ListPage() {
             setLoading(true);
             setError(null);
             const participant = await ParticipantService.getAll();
-            const meetingList = await meetingService.getAll();
+            const meetingList = await meetingService.getSummaries();
             setParticipants(participant);
             setMeetings(meetingList);
         } catch (err) {
@@ -130,6 +134,32 @@ export default function ListPage() {
         loadData();
     }, []);
 
+    // 검색어가 있으면 입력이 멈춘 뒤 서버 색인으로 검색
+    useEffect(() => {
+        const term = searchTerm.trim();
+        if (!term) {
+            setSearchResults(null);
+            return;
+        }
+
+        let cancelled = false;
+        const timeoutId = setTimeout(async () => {
+            try {
+                const result = await ParticipantService.search({ q: term, size: SEARCH_PAGE_SIZE });
+                if (!cancelled) {
+                    setSearchResults(result.content);
+                }
+            } catch (err) {
+                console.error('Failed to search participants:', err);
+            }
+        }, SEARCH_DEBOUNCE_MS);
+
+        return () => {
+            cancelled = true;
+            clearTimeout(timeoutId);
+        };
+    }, [searchTerm, participants]);
+
     const handleDeleteSelected = async () => {
         if (selectedIds.length === 0) {
             openAlert('알림', '삭제할 참여자를 선택해주세요.');
@@ -138,7 +168,7 @@ export default function ListPage() {
 
         if (window.confirm(`선택한 ${selectedIds.length}명을 삭제하시겠습니까?`)) {
             try {
-                await Promise.all(selectedIds.map((id) => ParticipantService.delete(id)));
+                await ParticipantService.deleteAll(selectedIds);
                 setSelectedIds([]);
                 await loadData();
                 openAlert('알림', '삭제 되었습니다.');
@@ -157,7 +187,7 @@ export default function ListPage() {
 
         if (window.confirm(`선택한 ${selectedMeetingIds.length}개의 모임을 삭제하시겠습니까?`)) {
             try {
-                await Promise.all(selectedMeetingIds.map((id) => meetingService.delete(id)));
+                await meetingService.deleteAll(selectedMeetingIds);
                 setSelectedMeetingIds([]);
                 await loadData();
                 openAlert('알림', '삭제 되었습니다.');
@@ -189,12 +219,8 @@ export default function ListPage() {
         return seasonA.localeCompare(seasonB);
     };
 
-    const filteredParticipants = participants
-        .filter((p) => {
-            const lowerTerm = searchTerm.toLowerCase();
-            return p.name.toLowerCase().includes(lowerTerm) || p.season.toLowerCase().includes(lowerTerm);
-        })
-        .sort(customSort);
+    // 검색 결과는 서버의 순위를 따르고, 검색어가 없으면 기수 순으로 전체 표시
+    const filteredParticipants = searchResults ?? [...participants].sort(customSort);
 
     const isAllSelected = filteredParticipants.length > 0 && selectedIds.length === filteredParticipants.length;
 
@@ -254,7 +280,7 @@ export default function ListPage() {
             width: 80,
             render: (row: Participant) => (
                 <img
-                    src={row.profile?.imageUrl || './default-profile.png'}
+                    src={resolveImageUrl(row.profile?.imageUrl, 64) || './default-profile.png'}
                     alt={row.name}
                     className="profile-image-small"
                 />
@@ -285,9 +311,9 @@ export default function ListPage() {
                     className="checkbox-large"
                 />
             ),
-            accessor: 'id' as keyof Meeting,
+            accessor: 'id' as keyof MeetingSummary,
             width: 50,
-            render: (row: Meeting) => (
+            render: (row: MeetingSummary) => (
                 <input
                     type="checkbox"
                     checked={selectedMeetingIds.includes(row.id)}
@@ -298,9 +324,9 @@ export default function ListPage() {
         },
         {
             header: '모임명',
-            accessor: 'title' as keyof Meeting,
+            accessor: 'title' as keyof MeetingSummary,
             width: 80,
-            render: (row: Meeting) => (
+            render: (row: MeetingSummary) => (
                 <span onClick={() => navigate(`/meetingDtl/${row.id}`)} className="link-primary">
                     {row.title}
                 </span>
@@ -308,15 +334,15 @@ export default function ListPage() {
         },
         {
             header: '생성일',
-            accessor: 'createdAt' as keyof Meeting,
+            accessor: 'createdAt' as keyof MeetingSummary,
             width: 80,
-            render: (row: Meeting) => formatDate(row.createdAt),
+            render: (row: MeetingSummary) => formatDate(row.createdAt),
         },
         {
             header: '수정일',
-            accessor: 'updatedAt' as keyof Meeting,
+            accessor: 'updatedAt' as keyof MeetingSummary,
             width: 80,
-            render: (row: Meeting) => formatDate(row.updatedAt),
+            render: (row: MeetingSummary) => formatDate(row.updatedAt),
         },
     ];
 
@@ -3,9 +3,12 @@ import { useNavigate, useParams, useLocation } from 'react-router-dom';
 import { Table } from '../components/ui/Table';
 import '../app/App.css';
 import '../styles/common.css';
-import { ParticipantService, type Participant, type Meeting } from '../services/participantService';
+import { type Participant, type Meeting } from '../services/participantService';
 import { meetingService } from '../services/meetingService';
 
+const NON_ATTENDEE_PAGE_SIZE = 100;
+const SEARCH_DEBOUNCE_MS = 200;
+
 export default function MeetingDtlPage() {
     const navigate = useNavigate();
     const location = useLocation();
@@ -24,15 +27,16 @@ export default function MeetingDtlPage() {
 
     const [attendees, setAttendees] = useState<Participant[]>([]);
     const [nonAttendees, setNonAttendees] = useState<Participant[]>([]);
+    const [nonAttendeePage, setNonAttendeePage] = useState(0);
+    const [hasMoreNonAttendees, setHasMoreNonAttendees] = useState(false);
 
     const [selectedAttendeeIds, setSelectedAttendeeIds] = useState<string[]>([]);
     const [selectedNonAttendeeIds, setSelectedNonAttendeeIds] = useState<string[]>([]);
     const [searchTerm, setSearchTerm] = useState('');
     const [searchParti, setSearchParti] = useState('');
 
-    const filteredNonAttendees = nonAttendees.filter(
-        (p) => p.name.includes(searchTerm) || p.season.includes(searchTerm),
-    );
+    // 미참석자는 서버에서 검색/페이지 처리됨
+    const filteredNonAttendees = nonAttendees;
 
     const filteredAttendees = attendees.filter((p) => p.name.includes(searchParti) || p.season.includes(searchParti));
 
@@ -45,10 +49,7 @@ export default function MeetingDtlPage() {
 
             try {
                 setLoading(true);
-                const [meetingData, allParticipants] = await Promise.all([
-                    meetingService.getById(id),
-                    ParticipantService.getAll(),
-                ]);
+                const meetingData = await meetingService.getById(id);
 
                 setMeeting(meetingData);
                 setFormData({
@@ -58,14 +59,7 @@ export default function MeetingDtlPage() {
                     updateAt: meetingData.updatedAt,
                 });
 
-                if (meetingData.participants) {
-                    const attendeeIds = meetingData.participants.map((p) => p.id);
-                    setAttendees(meetingData.participants);
-                    setNonAttendees(allParticipants.filter((p) => !attendeeIds.includes(p.id)));
-                } else {
-                    setAttendees([]);
-                    setNonAttendees(allParticipants);
-                }
+                setAttendees(meetingData.participants ?? []);
             } catch (err) {
                 console.error('Failed to fetch data: ', err);
                 setError('데이터를 불러오는데 실패했습니다.');
@@ -77,6 +71,30 @@ export default function MeetingDtlPage() {
         fetchData();
     }, [id]);
 
+    // 미참석자는 서버의 안티 조인 결과를 페이지 단위로 조회 (검색어 입력이 멈춘 뒤 첫 페이지부터 다시 조회)
+    const loadNonAttendees = async (page: number) => {
+        if (!id) return;
+        try {
+            const result = await meetingService.getNonAttendees(id, {
+                q: searchTerm.trim() || undefined,
+                page,
+                size: NON_ATTENDEE_PAGE_SIZE,
+            });
+            setNonAttendees((prev) => (page === 0 ? result.content : [...prev, ...result.content]));
+            setNonAttendeePage(page);
+            setHasMoreNonAttendees(result.hasNext);
+        } catch (err) {
+            console.error('Failed to fetch non-attendees: ', err);
+            setError('데이터를 불러오는데 실패했습니다.');
+        }
+    };
+
+    useEffect(() => {
+        const timeoutId = setTimeout(() => loadNonAttendees(0), searchTerm ? SEARCH_DEBOUNCE_MS : 0);
+        return () => clearTimeout(timeoutId);
+        // eslint-disable-next-line react-hooks/exhaustive-deps
+    }, [id, searchTerm]);
+
     const handleMainScreen = async () => {
         if (!id || !meeting) return;
         try {
@@ -152,11 +170,7 @@ export default function MeetingDtlPage() {
             setNonAttendees(newNonAttendees);
             setSelectedNonAttendeeIds([]);
 
-            const currentAttendeeIds = attendees.map((p) => p.id);
-            const newIdsToAdd = selectedNonAttendeeIds.filter((id) => !currentAttendeeIds.includes(id));
-            const newParticipantIds = [...currentAttendeeIds, ...newIdsToAdd];
-
-            const updatedMeeting = await meetingService.update(meeting.id, { participantIds: newParticipantIds });
+            const updatedMeeting = await meetingService.addParticipants(meeting.id, selectedNonAttendeeIds);
             setMeeting(updatedMeeting);
         } catch (error) {
             console.error('Failed to add participants:', error);
@@ -189,9 +203,7 @@ export default function MeetingDtlPage() {
             setNonAttendees(newNonAttendees);
             setSelectedAttendeeIds([]);
 
-            const newParticipantIds = newAttendees.map((p) => p.id);
-
-            const updatedMeeting = await meetingService.update(meeting.id, { participantIds: newParticipantIds });
+            const updatedMeeting = await meetingService.removeParticipants(meeting.id, selectedAttendeeIds);
             setMeeting(updatedMeeting);
         } catch (error) {
             console.error('Failed to remove participants:', error);
@@ -491,6 +503,16 @@ export default function MeetingDtlPage() {
                                     />
                                 </div>
                             ))}
+                            {hasMoreNonAttendees && (
+                                <div style={{ textAlign: 'center', padding: '8px' }}>
+                                    <button
+                                        onClick={() => loadNonAttendees(nonAttendeePage + 1)}
+                                        className="button-small button-secondary"
+                                    >
+                                        더 보기
+                                    </button>
+                                </div>
+                            )}
                         </div>
                     </div>
                 </div>
@@ -1,5 +1,5 @@
 import api from '../lib/api';
-import type { Participant } from './participantService';
+import type { PageResponse, Participant } from './participantService';
 
 export interface Meeting {
     id: string;
@@ -12,6 +12,16 @@ export interface Meeting {
     updatedAt: string;
 }
 
+export interface MeetingSummary {
+    id: string;
+    title: string;
+    date: string;
+    location: string;
+    participantCount: number;
+    createdAt: string;
+    updatedAt: string;
+}
+
 export interface CreateMeetingDto {
     title: string;
     desc: string;
@@ -21,9 +31,15 @@ export interface CreateMeetingDto {
 }
 
 export const meetingService = {
-    // 모든 모임 조회
+    // 모든 모임 조회 (참여자 프로필 포함)
     getAll: async () => {
-        const response = await api.get<Meeting[]>('/meetings');
+        const response = await api.get<Meeting[]>('/meetings', { params: { include: 'profile' } });
+        return response.data;
+    },
+
+    // 목록 화면용 모임 요약 조회 (참여자 정보 제외)
+    getSummaries: async () => {
+        const response = await api.get<MeetingSummary[]>('/meetings/summary');
         return response.data;
     },
 
@@ -48,9 +64,35 @@ export const meetingService = {
         return response.data;
     },
 
+    // 모임에 참여자 추가
+    // 모임 미참석자 페이지 조회 (이름/기수 검색)
+    getNonAttendees: async (id: string, params: { q?: string; page?: number; size?: number }) => {
+        const response = await api.get<PageResponse<Participant>>(`/meetings/${id}/non-attendees`, { params });
+        return response.data;
+    },
+
+    addParticipants: async (id: string, participantIds: string[]) => {
+        const response = await api.post<Meeting>(`/meetings/${id}/participants`, { participantIds });
+        return response.data;
+    },
+
+    // 모임에서 참여자 제외
+    removeParticipants: async (id: string, participantIds: string[]) => {
+        const response = await api.delete<Meeting>(`/meetings/${id}/participants`, {
+            params: { ids: participantIds.join(',') },
+        });
+        return response.data;
+    },
+
     // 모임 삭제
     delete: async (id: string) => {
         const response = await api.delete(`/meetings/${id}`);
         return response.data;
     },
+
+    // 여러 모임 일괄 삭제
+    deleteAll: async (ids: string[]) => {
+        const response = await api.post('/meetings/batch-delete', { ids });
+        return response.data;
+    },
 };
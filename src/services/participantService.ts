@@ -20,15 +20,59 @@ export interface Profile {
     participantId: string;
 }
 
+export interface PageResponse<T> {
+    content: T[];
+    page: number | null;
+    size: number;
+    hasNext: boolean;
+    nextCursor: string | null;
+}
+
+export interface SeasonGroup {
+    season: string;
+    count: number;
+    participants: Participant[];
+    hasNext: boolean;
+}
+
+export interface ParticipantSearchParams {
+    q?: string;
+    season?: string;
+    position?: string;
+    page?: number;
+    size?: number;
+}
+
 export const ParticipantService = {
-    // 모든 참여자 조회
+    // 모든 참여자 조회 (프로필 포함)
     getAll: async () => {
-        const response = await api.get<Participant[]>('/participants');
+        const response = await api.get<Participant[]>('/participants', { params: { include: 'profile' } });
         return response.data;
     },
-    // 특정 참여자 조회
+    // 이름/기수 검색 (서버 색인, 순위순)
+    search: async (params: ParticipantSearchParams) => {
+        const response = await api.get<PageResponse<Participant>>('/participants/search', {
+            params: { ...params, include: 'profile' },
+        });
+        return response.data;
+    },
+    // 기수별 그룹 조회 (기수 자연 정렬, 그룹별 첫 페이지 포함)
+    getSeasonGroups: async (size?: number) => {
+        const response = await api.get<SeasonGroup[]>('/participants/grouped-by-season', {
+            params: { size, include: 'profile' },
+        });
+        return response.data;
+    },
+    // 한 기수의 참여자 페이지 조회
+    getSeasonPage: async (season: string, page: number, size?: number) => {
+        const response = await api.get<PageResponse<Participant>>('/participants/grouped-by-season', {
+            params: { season, page, size, include: 'profile' },
+        });
+        return response.data;
+    },
+    // 특정 참여자 조회 (프로필 포함)
     getById: async (id: string) => {
-        const response = await api.get<Participant>(`/participants/${id}`);
+        const response = await api.get<Participant>(`/participants/${id}`, { params: { include: 'profile' } });
         return response.data;
     },
     // 참여자 생성
@@ -46,4 +90,9 @@ export const ParticipantService = {
         const response = await api.delete(`/participants/${id}`);
         return response.data;
     },
+    // 여러 참여자 일괄 삭제
+    deleteAll: async (ids: string[]) => {
+        const response = await api.post('/participants/batch-delete', { ids });
+        return response.data;
+    },
 };